@@ -15,4 +15,6 @@ repositories {
 }
 
 dependencies {
+    // https://github.com/melix/jmh-gradle-plugin
+    implementation("me.champeau.jmh:jmh-gradle-plugin:0.7.2")
 }
@@ -0,0 +1,28 @@
+/*
+* Copyright (c) 2023 Chris K Wensel <chris@wensel.net>. All Rights Reserved.
+*
+* This Source Code Form is subject to the terms of the Mozilla Public
+* License, v. 2.0. If a copy of the MPL was not distributed with this
+* file, You can obtain one at http://mozilla.org/MPL/2.0/.
+*/
+
+plugins {
+    id("clusterless.commons.java-common-properties")
+    id("clusterless.commons.java-common-conventions")
+    id("me.champeau.jmh")
+}
+
+// run all benchmarks with: ./gradlew jmh
+// or a subset with: ./gradlew jmh -PjmhIncludes=LabelBench
+jmh {
+    jmhVersion = "1.37"
+
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+
+    includes.addAll(providers.gradleProperty("jmhIncludes").map { listOf(it) }.orElse(listOf()))
+
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("results/jmh/results.json")
+}
@@ -13,6 +13,8 @@ import clusterless.commons.naming.Label;
 import clusterless.commons.naming.Region;
 import clusterless.commons.naming.Stage;
 import clusterless.commons.substrate.aws.cdk.scoped.ScopedApp;
+import clusterless.commons.substrate.aws.cdk.scoped.ScopedConstruct;
+import clusterless.commons.substrate.aws.cdk.scoped.ScopedStack;
 import software.amazon.awscdk.Stack;
 import software.constructs.Construct;
 
@@ -53,8 +55,10 @@ public class ResourceNames {
     public static Label globalUniqueLabel(Construct scope, String name) {
         Objects.requireNonNull(name, "name may not be null");
 
-        Label region = Region.of(Stack.of(scope).getRegion());
-        Label account = Fixed.of(Stack.of(scope).getAccount());
+        Stack stack = stackOf(scope);
+
+        Label region = Region.of(regionOf(stack));
+        Label account = Fixed.of(accountOf(stack));
         Label stage = ScopedApp.scopedOf(scope).stage();
 
         return stage.upperOnly()
@@ -84,11 +88,14 @@ public class ResourceNames {
     public static Label globalUniqueScopedLabel(Construct scope, String name) {
         Objects.requireNonNull(name, "name may not be null");
 
-        Label region = Region.of(Stack.of(scope).getRegion());
-        Label account = Fixed.of(Stack.of(scope).getAccount());
-        Label stage = ScopedApp.scopedOf(scope).stage();
-        Label scopedName = ScopedApp.scopedOf(scope).name();
-        Label scopedVersion = ScopedApp.scopedOf(scope).version();
+        Stack stack = stackOf(scope);
+        ScopedApp app = ScopedApp.scopedOf(scope);
+
+        Label region = Region.of(regionOf(stack));
+        Label account = Fixed.of(accountOf(stack));
+        Label stage = app.stage();
+        Label scopedName = app.name();
+        Label scopedVersion = app.version();
 
         return stage.upperOnly()
                 .with(scopedName)
@@ -119,7 +126,7 @@ public class ResourceNames {
     public static Label accountUniqueLabel(Construct scope, String name) {
         Objects.requireNonNull(name, "name may not be null");
 
-        Label region = Region.of(Stack.of(scope).getRegion());
+        Label region = Region.of(regionOf(stackOf(scope)));
         Label stage = ScopedApp.scopedOf(scope).stage();
 
         return stage.upperOnly()
@@ -148,10 +155,12 @@ public class ResourceNames {
     public static Label accountUniqueScopedLabel(Construct scope, String name) {
         Objects.requireNonNull(name, "name may not be null");
 
-        Label region = Region.of(Stack.of(scope).getRegion());
-        Label stage = ScopedApp.scopedOf(scope).stage();
-        Label scopedName = ScopedApp.scopedOf(scope).name();
-        Label scopedVersion = ScopedApp.scopedOf(scope).version();
+        ScopedApp app = ScopedApp.scopedOf(scope);
+
+        Label region = Region.of(regionOf(stackOf(scope)));
+        Label stage = app.stage();
+        Label scopedName = app.name();
+        Label scopedVersion = app.version();
 
         return stage.upperOnly()
                 .with(scopedName)
@@ -237,9 +246,11 @@ public class ResourceNames {
         Objects.requireNonNull(name, "name may not be null");
         Objects.requireNonNull(qualifier, "qualifier may not be null");
 
-        Label stage = ScopedApp.scopedOf(scope).stage();
-        Label scopeName = ScopedApp.scopedOf(scope).name();
-        Label scopeVersion = ScopedApp.scopedOf(scope).version();
+        ScopedApp app = ScopedApp.scopedOf(scope);
+
+        Label stage = app.stage();
+        Label scopeName = app.name();
+        Label scopeVersion = app.version();
 
         return stage.upperOnly()
                 .with(scopeName)
@@ -247,4 +258,24 @@ public class ResourceNames {
                 .with(scopeVersion)
                 .with(qualifier);
     }
+
+    private static Stack stackOf(Construct scope) {
+        if (scope instanceof Stack) {
+            return (Stack) scope;
+        }
+
+        if (scope instanceof ScopedConstruct) {
+            return ((ScopedConstruct) scope).stack();
+        }
+
+        return Stack.of(scope);
+    }
+
+    private static String regionOf(Stack stack) {
+        return stack instanceof ScopedStack ? ((ScopedStack) stack).region() : stack.getRegion();
+    }
+
+    private static String accountOf(Stack stack) {
+        return stack instanceof ScopedStack ? ((ScopedStack) stack).account() : stack.getAccount();
+    }
 }
@@ -21,13 +21,32 @@ import software.constructs.Construct;
 
 import java.util.*;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * A {@link App} that is scoped to a {@link Stage}, name {@link Label}, and {@link Version}.
  */
 public class ScopedApp extends App {
+    /**
+     * Returns the {@link ScopedApp} the given construct belongs to.
+     * <p/>
+     * Scoped constructs and stacks retain their app, so the construct tree is only walked for other construct types.
+     *
+     * @param scope the construct
+     * @return the owning {@link ScopedApp}
+     */
     public static ScopedApp scopedOf(Construct scope) {
+        if (scope instanceof ScopedApp) {
+            return (ScopedApp) scope;
+        }
+
+        if (scope instanceof ScopedStack) {
+            return ((ScopedStack) scope).scopedApp();
+        }
+
+        if (scope instanceof ScopedConstruct) {
+            return ((ScopedConstruct) scope).scopedApp();
+        }
+
         return (ScopedApp) scope.getNode().getRoot();
     }
 
@@ -38,6 +57,7 @@ public class ScopedApp extends App {
     private final ScopedMeta scopedMeta;
 
     private final Map<Ref, Construct> refConstructs = new HashMap<>();
+    private final Node localConstructIndex = new Node();
 
     public ScopedApp(@NotNull AppProps props, @NotNull Stage stage, @NotNull Label name, @NotNull Version version) {
         this(props, stage, name, version, new ScopedMeta());
@@ -69,6 +89,7 @@ public class ScopedApp extends App {
 
     public void addLocalConstruct(Ref ref, Construct construct) {
         refConstructs.put(ref, construct);
+        localConstructIndex.add(ref, construct);
     }
 
     public Construct getLocalConstruct(Ref ref) {
@@ -108,68 +129,115 @@ public class ScopedApp extends App {
         String resourceType = split.length == 4 ? split[2] : split.length == 3 ? split[1] : split[0];
         String resourceName = split.length == 4 ? split[3] : split.length == 3 ? split[2] : split.length == 2 ? split[1] : split[0];
 
-        Set<Map.Entry<Ref, Construct>> results = refConstructs.entrySet();
+        // each level narrows the constructs by one more field, name, then type, then namespace, then provider
+        Node results = localConstructIndex.child(resourceName);
 
-        results = results
-                .stream()
-                .filter(ref -> Label.of(resourceName).camelCase().equalsIgnoreCase(ref.getKey().resourceName().camelCase()))
-                .collect(Collectors.toSet());
-
-        if (results.isEmpty()) {
+        if (results == null) {
             throw new IllegalArgumentException("no constructs found for: " + relativeTypeRef + ", available: " + refConstructs.keySet());
         }
 
         if (results.size() == 1) {
-            return (T) results.stream().findFirst().get().getValue();
+            return (T) results.first();
         }
 
         if (resourceType == null) {
-            throw new IllegalArgumentException("too many constructs found for: " + relativeTypeRef + ", available: " + results.stream().map(Map.Entry::getKey).collect(Collectors.toList()));
+            throw new IllegalArgumentException("too many constructs found for: " + relativeTypeRef + ", available: " + results.refs());
         }
 
-        results = results
-                .stream()
-                .filter(ref -> Label.of(resourceType).camelCase().equalsIgnoreCase(ref.getKey().resourceType().camelCase()))
-                .collect(Collectors.toSet());
+        results = results.child(resourceType);
 
-        if (results.isEmpty()) {
+        if (results == null) {
             throw new IllegalArgumentException("no constructs found for: " + relativeTypeRef + ", available: " + refConstructs.keySet());
         }
 
         if (results.size() == 1) {
-            return (T) results.stream().findFirst().get().getValue();
+            return (T) results.first();
         }
 
         if (resourceNs == null) {
-            throw new IllegalArgumentException("too many constructs found for: " + relativeTypeRef + ", available: " + results.stream().map(Map.Entry::getKey).collect(Collectors.toList()));
+            throw new IllegalArgumentException("too many constructs found for: " + relativeTypeRef + ", available: " + results.refs());
         }
 
-        results = results
-                .stream()
-                .filter(ref -> Label.of(resourceNs).camelCase().equalsIgnoreCase(ref.getKey().resourceNs().camelCase()))
-                .collect(Collectors.toSet());
+        results = results.child(resourceNs);
 
-        if (results.isEmpty()) {
+        if (results == null) {
             throw new IllegalArgumentException("no constructs found for: " + relativeTypeRef + ", available: " + refConstructs.keySet());
         }
 
         if (results.size() == 1) {
-            return (T) results.stream().findFirst().get().getValue();
+            return (T) results.first();
         }
 
         if (provider == null) {
-            throw new IllegalArgumentException("too many constructs found for: " + relativeTypeRef + ", available: " + results.stream().map(Map.Entry::getKey).collect(Collectors.toList()));
+            throw new IllegalArgumentException("too many constructs found for: " + relativeTypeRef + ", available: " + results.refs());
         }
 
-        results = results
-                .stream()
-                .filter(ref -> Label.of(provider).camelCase().equalsIgnoreCase(ref.getKey().provider().camelCase()))
-                .collect(Collectors.toSet());
+        results = results.child(provider);
 
-        if (results.size() == 1) {
-            return (T) results.stream().findFirst().get().getValue();
+        if (results != null && results.size() == 1) {
+            return (T) results.first();
         }
 
         throw new IllegalArgumentException("no constructs found for: " + relativeTypeRef + ", available: " + refConstructs.keySet());
     }
+
+    /**
+     * A level of the local construct index, holds every construct matching the path to this level, and the next
+     * level keyed by the normalized value of the next field.
+     * <p/>
+     * The levels are resource name, resource type, resource namespace, and provider. Keys are the lower case camel
+     * case value of the field, so matching is case-insensitive as the keys are computed once on registration.
+     */
+    private static final class Node {
+        private final Map<Ref, Construct> entries = new LinkedHashMap<>();
+        private final Map<String, Node> children = new HashMap<>();
+
+        private static String key(Label label) {
+            String value = label == null ? null : label.camelCase();
+
+            return value == null ? null : value.toLowerCase(Locale.ROOT);
+        }
+
+        void add(Ref ref, Construct construct) {
+            Node name = put(this, ref.resourceName(), ref, construct);
+            Node type = put(name, ref.resourceType(), ref, construct);
+            Node ns = put(type, ref.resourceNs(), ref, construct);
+            put(ns, ref.provider(), ref, construct);
+        }
+
+        private static Node put(Node parent, Label label, Ref ref, Construct construct) {
+            if (parent == null) {
+                return null;
+            }
+
+            String key = key(label);
+
+            // a ref without the field never matches at this level or below
+            if (key == null) {
+                return null;
+            }
+
+            Node node = parent.children.computeIfAbsent(key, k -> new Node());
+
+            node.entries.put(ref, construct);
+
+            return node;
+        }
+
+        Node child(String value) {
+            return children.get(key(Label.of(value)));
+        }
+
+        int size() {
+            return entries.size();
+        }
+
+        Construct first() {
+            return entries.values().iterator().next();
+        }
+
+        List<Ref> refs() {
+            return new ArrayList<>(entries.keySet());
+        }
+    }
 }
@@ -13,6 +13,7 @@ import clusterless.commons.naming.Ref;
 import clusterless.commons.naming.Stage;
 import clusterless.commons.naming.Version;
 import org.jetbrains.annotations.NotNull;
+import software.amazon.awscdk.Stack;
 import software.constructs.Construct;
 
 import java.util.function.Function;
@@ -22,8 +23,45 @@ import java.util.function.Function;
  * that can be imported or exported.
  */
 public class ScopedConstruct extends Construct {
+    private final Construct scope;
+    private ScopedApp scopedApp;
+    private Stack stack;
+
     public ScopedConstruct(@NotNull Construct scope, @NotNull String id) {
         super(scope, id);
+        this.scope = scope;
+    }
+
+    /**
+     * The {@link ScopedApp} that this construct is scoped to, resolved from the parent scope once and retained.
+     *
+     * @return the {@link ScopedApp} that this construct is scoped to.
+     */
+    public ScopedApp scopedApp() {
+        if (scopedApp == null) {
+            scopedApp = ScopedApp.scopedOf(scope);
+        }
+
+        return scopedApp;
+    }
+
+    /**
+     * The {@link Stack} that this construct belongs to, resolved from the parent scope once and retained.
+     *
+     * @return the {@link Stack} that this construct belongs to.
+     */
+    public Stack stack() {
+        if (stack == null) {
+            if (scope instanceof Stack) {
+                stack = (Stack) scope;
+            } else if (scope instanceof ScopedConstruct) {
+                stack = ((ScopedConstruct) scope).stack();
+            } else {
+                stack = Stack.of(scope);
+            }
+        }
+
+        return stack;
     }
 
     /**
@@ -32,7 +70,7 @@ public class ScopedConstruct extends Construct {
      * @return the {@link Stage} of the {@link ScopedApp} that this construct is scoped to.
      */
     protected Stage stage() {
-        return ScopedApp.scopedOf(this).stage();
+        return scopedApp().stage();
     }
 
     /**
@@ -41,7 +79,7 @@ public class ScopedConstruct extends Construct {
      * @return the name of the {@link ScopedApp} that this construct is scoped to.
      */
     protected Label scopedName() {
-        return ScopedApp.scopedOf(this).name();
+        return scopedApp().name();
     }
 
     /**
@@ -50,7 +88,7 @@ public class ScopedConstruct extends Construct {
      * @return the version of the {@link ScopedApp} that this construct is scoped to.
      */
     protected Version scopedVersion() {
-        return ScopedApp.scopedOf(this).version();
+        return scopedApp().version();
     }
 
     /**
@@ -100,7 +138,7 @@ public class ScopedConstruct extends Construct {
      * @return the resolved value, usually a Construct
      */
     protected <T> T importArnRef(String ref, Function<String, T> resolver) {
-        return ScopedApp.scopedOf(this)
+        return scopedApp()
                 .importArnRef(ref, resolver);
     }
 
@@ -112,7 +150,7 @@ public class ScopedConstruct extends Construct {
      * @return the resolved construct
      */
     protected <T extends Construct> T resolveLocalConstruct(String relativeTypeRef) {
-        Construct construct = ScopedApp.scopedOf(this)
+        Construct construct = scopedApp()
                 .resolveLocalConstruct(relativeTypeRef);
 
         return (T) construct;
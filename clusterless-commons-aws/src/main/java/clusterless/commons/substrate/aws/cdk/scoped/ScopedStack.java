@@ -29,7 +29,12 @@ import java.util.stream.Stream;
  */
 public class ScopedStack extends Stack {
     public static ScopedStack scopedOf(Construct construct) {
-        Stack stack = Stack.of(construct);
+        if (construct instanceof ScopedStack) {
+            return (ScopedStack) construct;
+        }
+
+        Stack stack = construct instanceof ScopedConstruct ? ((ScopedConstruct) construct).stack() : Stack.of(construct);
+
         if (stack instanceof ScopedStack) {
             return (ScopedStack) stack;
         }
@@ -37,20 +42,26 @@ public class ScopedStack extends Stack {
         throw new IllegalArgumentException("construct does not belong to a ScopedStack, found: " + stack.getClass().getName());
     }
 
+    private final ScopedApp app;
     private final Stage stage;
+    private String region;
+    private String account;
 
     public ScopedStack(@NotNull ScopedApp app, @Nullable String id, @Nullable StackProps props) {
         super(app, id, props);
+        this.app = app;
         stage = app.stage();
     }
 
     public ScopedStack(@NotNull ScopedApp app, @Nullable String id) {
         super(app, id);
+        this.app = app;
         stage = app.stage();
     }
 
     public ScopedStack(@NotNull ScopedApp app) {
         super(app);
+        this.app = app;
         stage = app.stage();
     }
 
@@ -63,13 +74,48 @@ public class ScopedStack extends Stack {
         return stage;
     }
 
+    /**
+     * The {@link ScopedApp} that this construct is scoped to.
+     *
+     * @return the {@link ScopedApp} that this construct is scoped to.
+     */
+    public ScopedApp scopedApp() {
+        return app;
+    }
+
+    /**
+     * The region of this stack, retrieved once and retained.
+     *
+     * @return the region of this stack
+     */
+    public String region() {
+        if (region == null) {
+            region = getRegion();
+        }
+
+        return region;
+    }
+
+    /**
+     * The account of this stack, retrieved once and retained.
+     *
+     * @return the account of this stack
+     */
+    public String account() {
+        if (account == null) {
+            account = getAccount();
+        }
+
+        return account;
+    }
+
     /**
      * The name of the {@link ScopedApp} that this construct is scoped to.
      *
      * @return the name of the {@link ScopedApp} that this construct is scoped to.
      */
     protected Label scopedName() {
-        return ScopedApp.scopedOf(this).name();
+        return app.name();
     }
 
     /**
@@ -78,7 +124,7 @@ public class ScopedStack extends Stack {
      * @return the version of the {@link ScopedApp} that this construct is scoped to.
      */
     protected Version scopedVersion() {
-        return ScopedApp.scopedOf(this).version();
+        return app.version();
     }
 
     protected void exportNameRefFor(Ref ref, String value, String description) {
@@ -92,18 +138,15 @@ public class ScopedStack extends Stack {
         OutputConstruct outputConstruct = new OutputConstruct(this, qualifiedRef, value, description);
 
         if (!Token.isUnresolved(value)) {
-            ScopedApp.scopedOf(this)
-                    .stagedMeta()
+            app.stagedMeta()
                     .setName(ref.resourceType().value(), value);
         }
 
-        ScopedApp.scopedOf(this)
-                .stagedMeta()
+        app.stagedMeta()
                 .setNameRef(ref.resourceType().value(), outputConstruct.exportName());
 
         if (construct != null) {
-            ScopedApp.scopedOf(this)
-                    .addLocalConstruct(qualifiedRef, construct);
+            app.addLocalConstruct(qualifiedRef, construct);
         }
     }
 
@@ -118,18 +161,15 @@ public class ScopedStack extends Stack {
         OutputConstruct outputConstruct = new OutputConstruct(this, qualifiedRef, value, description);
 
         if (!Token.isUnresolved(value)) {
-            ScopedApp.scopedOf(this)
-                    .stagedMeta()
+            app.stagedMeta()
                     .setId(ref.resourceType().value(), value);
         }
 
-        ScopedApp.scopedOf(this)
-                .stagedMeta()
+        app.stagedMeta()
                 .setIdRef(ref.resourceType().value(), outputConstruct.exportName());
 
         if (construct != null) {
-            ScopedApp.scopedOf(this)
-                    .addLocalConstruct(qualifiedRef, construct);
+            app.addLocalConstruct(qualifiedRef, construct);
         }
     }
 
@@ -143,13 +183,11 @@ public class ScopedStack extends Stack {
 
         OutputConstruct outputConstruct = new OutputConstruct(this, qualifiedRef, value, description);
 
-        ScopedApp.scopedOf(this)
-                .stagedMeta()
+        app.stagedMeta()
                 .setArnRef(ref.resourceType().value(), outputConstruct.exportName());
 
         if (construct != null) {
-            ScopedApp.scopedOf(this)
-                    .addLocalConstruct(qualifiedRef, construct);
+            app.addLocalConstruct(qualifiedRef, construct);
         }
     }
 
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2023 Chris K Wensel <chris@wensel.net>. All Rights Reserved.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package clusterless.commons.substrate.aws.cdk.scoped;
+
+import clusterless.commons.naming.Label;
+import clusterless.commons.naming.Ref;
+import clusterless.commons.naming.Stage;
+import clusterless.commons.naming.Version;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awscdk.AppProps;
+import software.constructs.Construct;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScopedAppTest {
+    private ScopedApp app;
+    private Construct s3Orders;
+    private Construct glueOrders;
+    private Construct athenaOrders;
+    private Construct gcpAthenaOrders;
+    private Construct customers;
+
+    @BeforeEach
+    public void setup() {
+        app = new ScopedApp(AppProps.builder().build(), Stage.of("dev"), Label.of("test"), Version.of("20230101"));
+
+        s3Orders = add("aws", "s3", "bucket", "orders");
+        glueOrders = add("aws", "glue", "table", "orders");
+        athenaOrders = add("aws", "athena", "table", "orders");
+        gcpAthenaOrders = add("gcp", "athena", "table", "orders");
+        customers = add("aws", "s3", "bucket", "customers");
+    }
+
+    private Construct add(String provider, String resourceNs, String resourceType, String resourceName) {
+        Ref ref = Ref.ref()
+                .withProvider(provider)
+                .withResourceNs(resourceNs)
+                .withResourceType(resourceType)
+                .withResourceName(resourceName);
+
+        Construct construct = new Construct(app, String.join("-", provider, resourceNs, resourceType, resourceName));
+
+        app.addLocalConstruct(ref, construct);
+
+        return construct;
+    }
+
+    @Test
+    public void name() {
+        assertSame(customers, app.resolveLocalConstruct("customers"));
+        assertSame(customers, app.resolveLocalConstruct("Customers"));
+        assertSame(customers, app.resolveLocalConstruct("missing:customers"));
+
+        assertNotFound("missing");
+
+        // a bare name is also taken as the type, so an ambiguous name is narrowed to nothing
+        assertNotFound("orders");
+    }
+
+    @Test
+    public void type() {
+        assertSame(s3Orders, app.resolveLocalConstruct("bucket:orders"));
+        assertSame(s3Orders, app.resolveLocalConstruct("Bucket:Orders"));
+        assertSame(s3Orders, app.resolveLocalConstruct("missing:bucket:orders"));
+
+        assertNotFound("queue:orders");
+        assertTooMany("table:orders", "ref:aws:glue:table:orders", "ref:aws:athena:table:orders", "ref:gcp:athena:table:orders");
+    }
+
+    @Test
+    public void namespace() {
+        assertSame(glueOrders, app.resolveLocalConstruct("glue:table:orders"));
+        assertSame(glueOrders, app.resolveLocalConstruct("missing:glue:table:orders"));
+
+        assertNotFound("sqs:table:orders");
+        assertTooMany("athena:table:orders", "ref:aws:athena:table:orders", "ref:gcp:athena:table:orders");
+    }
+
+    @Test
+    public void provider() {
+        assertSame(athenaOrders, app.resolveLocalConstruct("aws:athena:table:orders"));
+        assertSame(gcpAthenaOrders, app.resolveLocalConstruct("gcp:athena:table:orders"));
+        assertSame(gcpAthenaOrders, app.resolveLocalConstruct("GCP:Athena:Table:Orders"));
+
+        assertNotFound("azure:athena:table:orders");
+    }
+
+    @Test
+    public void invalid() {
+        assertThrows(NullPointerException.class, () -> app.resolveLocalConstruct(null));
+        assertThrows(IllegalStateException.class, () -> app.resolveLocalConstruct("a:b:c:d:e"));
+    }
+
+    private void assertNotFound(String relativeTypeRef) {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> app.resolveLocalConstruct(relativeTypeRef));
+
+        assertTrue(exception.getMessage().startsWith("no constructs found for: " + relativeTypeRef + ", available: "), exception.getMessage());
+    }
+
+    private void assertTooMany(String relativeTypeRef, String... candidates) {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> app.resolveLocalConstruct(relativeTypeRef));
+        String message = exception.getMessage();
+
+        assertTrue(message.startsWith("too many constructs found for: " + relativeTypeRef + ", available: "), message);
+
+        // only the matching constructs are listed, in any order
+        for (String candidate : candidates) {
+            assertTrue(message.contains(candidate), message);
+        }
+
+        assertEquals(candidates.length, message.split("ref:").length - 1, message);
+    }
+}
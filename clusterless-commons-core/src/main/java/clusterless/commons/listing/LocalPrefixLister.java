@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2023 Chris K Wensel <chris@wensel.net>. All Rights Reserved.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package clusterless.commons.listing;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * LocalPrefixLister lists the regular files below a root directory as object keys, the relative path of each file
+ * with {@code /} separators, so listing can be exercised and measured without an object store.
+ * <p/>
+ * Only the directories that can contain keys with the prefix are read.
+ */
+public final class LocalPrefixLister implements PrefixLister {
+    private final Path root;
+
+    public LocalPrefixLister(Path root) {
+        this.root = Objects.requireNonNull(root, "root");
+    }
+
+    /**
+     * The directory the keys are relative to.
+     *
+     * @return the root directory
+     */
+    public Path root() {
+        return root;
+    }
+
+    @Override
+    public List<String> list(String prefix) {
+        Objects.requireNonNull(prefix, "prefix");
+
+        // the directory holding the prefix, and the leading part of the names within it
+        int slash = prefix.lastIndexOf('/');
+        String parent = prefix.substring(0, slash + 1);
+        String name = prefix.substring(slash + 1);
+        Path directory = parent.isEmpty() ? root : root.resolve(parent);
+
+        if (!Files.isDirectory(directory)) {
+            return Collections.emptyList();
+        }
+
+        List<String> keys = new ArrayList<>();
+
+        try (Stream<Path> children = Files.list(directory)) {
+            for (Path child : (Iterable<Path>) children::iterator) {
+                String childName = child.getFileName().toString();
+
+                if (childName.startsWith(name)) {
+                    collect(child, parent + childName, keys);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        Collections.sort(keys);
+
+        return keys;
+    }
+
+    private static void collect(Path path, String key, List<String> keys) throws IOException {
+        if (Files.isRegularFile(path)) {
+            keys.add(key);
+            return;
+        }
+
+        if (!Files.isDirectory(path)) {
+            return;
+        }
+
+        try (Stream<Path> children = Files.list(path)) {
+            for (Path child : (Iterable<Path>) children::iterator) {
+                collect(child, key + "/" + child.getFileName(), keys);
+            }
+        }
+    }
+}
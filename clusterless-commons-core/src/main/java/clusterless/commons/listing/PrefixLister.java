@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2023 Chris K Wensel <chris@wensel.net>. All Rights Reserved.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package clusterless.commons.listing;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * PrefixLister lists the keys of an object store beginning with a prefix, for example the prefixes planned by
+ * {@link PrefixPlanner}.
+ * <p/>
+ * Implementations must be safe to call from many threads.
+ */
+public interface PrefixLister {
+    /**
+     * Lists every key beginning with the given prefix, in lexicographic order.
+     *
+     * @param prefix the prefix, may be empty
+     * @return the matching keys
+     */
+    List<String> list(String prefix);
+
+    /**
+     * Lists every key beginning with any of the given prefixes, one prefix per task on the given executor.
+     * <p/>
+     * The keys are returned in the order of the given prefixes, if a listing fails its exception is rethrown.
+     *
+     * @param prefixes the prefixes to list
+     * @param executor the executor to list on
+     * @return the matching keys
+     */
+    default List<String> listAll(Collection<String> prefixes, Executor executor) {
+        List<CompletableFuture<List<String>>> futures = new ArrayList<>(prefixes.size());
+
+        for (String prefix : prefixes) {
+            futures.add(CompletableFuture.supplyAsync(() -> list(prefix), executor));
+        }
+
+        List<String> keys = new ArrayList<>();
+
+        try {
+            for (CompletableFuture<List<String>> future : futures) {
+                keys.addAll(future.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            throw e;
+        }
+
+        return keys;
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2023 Chris K Wensel <chris@wensel.net>. All Rights Reserved.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package clusterless.commons.listing;
+
+import clusterless.commons.naming.Partition;
+import clusterless.commons.temporal.LotCodec;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.TemporalUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * PrefixPlanner computes the object key prefixes to list to find every lot of a time range, for example to list a
+ * month of lots concurrently.
+ * <p/>
+ * Lots are expected to be written under the base partition as {@code lotKey=lot}, for example
+ * {@code dataset/lot=20230206PT5M123/part-0.json}, or directly as the lot string if the lot key is null. A lot
+ * string begins with its {@code yyyyMMdd} date, so a prefix of the lot string covers a whole year, month, or day,
+ * and a prefix of the zero padded lot index covers a block of lots within a day.
+ * <p/>
+ * The planned prefixes do not overlap, and together match exactly the lots of the range. Whole years, months, and
+ * days are collapsed into a single prefix, then the prefixes covering the most lots are split until there are at
+ * least as many prefixes as the target parallelism, or no prefix can be split further.
+ *
+ * <pre>
+ *   PrefixPlanner planner = new PrefixPlanner(Partition.of("dataset"), "lot", IntervalUnit.TWELFTHS);
+ *   List&lt;String&gt; prefixes = planner.plan(startOfMonth, endOfMonth, 8); // ["dataset/lot=202302"] split into days
+ * </pre>
+ */
+public final class PrefixPlanner {
+    private static final int YEAR = 0;
+    private static final int MONTH = 1;
+    private static final int DAY = 2;
+    private static final int DATE_WIDTH = 8;
+
+    private final String base;
+    private final LotCodec codec;
+    private final long lotMillis;
+    private final int lotsPerDay;
+    private final int literalLength;
+    private final int indexWidth;
+
+    /**
+     * Creates a planner for the lots written under the given base partition.
+     *
+     * @param base   the partition the lots are written under, may be {@link Partition#NULL}
+     * @param lotKey the key of the lot partition, or null if the lot string is not named
+     * @param unit   the lot unit
+     */
+    public PrefixPlanner(Partition base, String lotKey, TemporalUnit unit) {
+        Objects.requireNonNull(base, "base");
+
+        String prefix = base.isNull() ? "" : base.partition(true);
+
+        this.base = lotKey == null ? prefix : prefix + lotKey + "=";
+        this.codec = LotCodec.of(unit);
+        this.lotMillis = codec.lotMillis();
+        this.lotsPerDay = codec.lotsPerDay();
+        this.literalLength = unit.getDuration().toString().length();
+        this.indexWidth = codec.length() - DATE_WIDTH - literalLength;
+    }
+
+    /**
+     * Plans the prefixes of every lot overlapping the given range.
+     *
+     * @param startInclusive the start of the range, inclusive
+     * @param endExclusive   the end of the range, exclusive
+     * @param parallelism    the number of prefixes to aim for
+     * @return the prefixes in chronological order
+     */
+    public List<String> plan(Instant startInclusive, Instant endExclusive, int parallelism) {
+        return plan(startInclusive.toEpochMilli(), endExclusive.toEpochMilli(), parallelism);
+    }
+
+    /**
+     * Plans the prefixes of every lot overlapping the given range.
+     *
+     * @param startInclusive the start of the range in milliseconds since the epoch, inclusive
+     * @param endExclusive   the end of the range in milliseconds since the epoch, exclusive
+     * @param parallelism    the number of prefixes to aim for
+     * @return the prefixes in chronological order
+     */
+    public List<String> plan(long startInclusive, long endExclusive, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive, got: " + parallelism);
+        }
+
+        long first = Math.floorDiv(startInclusive, lotMillis);
+        long end = endExclusive > startInclusive ? Math.floorDiv(endExclusive - 1, lotMillis) + 1 : first;
+
+        List<Node> nodes = new ArrayList<>();
+
+        cover(first, end, YEAR, nodes);
+
+        while (nodes.size() < parallelism) {
+            int largest = -1;
+
+            for (int i = 0; i < nodes.size(); i++) {
+                Node node = nodes.get(i);
+
+                if (node.isSplittable() && (largest == -1 || node.lots() > nodes.get(largest).lots())) {
+                    largest = i;
+                }
+            }
+
+            if (largest == -1) {
+                break;
+            }
+
+            Node node = nodes.remove(largest);
+            List<Node> children = new ArrayList<>();
+
+            cover(node.from, node.to, node.level + 1, children);
+
+            nodes.addAll(largest, children);
+        }
+
+        List<String> prefixes = new ArrayList<>(nodes.size());
+
+        for (Node node : nodes) {
+            prefixes.add(prefix(node));
+        }
+
+        return prefixes;
+    }
+
+    /**
+     * Covers the lot ordinals from {@code from} to {@code to} with the fewest prefixes no coarser than the given
+     * level, the levels are year, month, day, then each additional digit of the lot index.
+     */
+    private void cover(long from, long to, int minLevel, List<Node> nodes) {
+        long ordinal = from;
+
+        while (ordinal < to) {
+            long day = Math.floorDiv(ordinal, lotsPerDay);
+            long dayStart = day * lotsPerDay;
+            long dayEnd = dayStart + lotsPerDay;
+
+            if (ordinal != dayStart || dayEnd > to || minLevel > DAY) {
+                long coveredEnd = Math.min(to, dayEnd);
+
+                coverIndexes(dayStart, (int) (ordinal - dayStart), (int) (coveredEnd - dayStart), Math.max(1, minLevel - DAY), nodes);
+
+                ordinal = coveredEnd;
+                continue;
+            }
+
+            LocalDate date = LocalDate.ofEpochDay(day);
+
+            if (minLevel <= YEAR && date.getDayOfYear() == 1) {
+                long yearEnd = date.plusYears(1).toEpochDay() * lotsPerDay;
+
+                if (yearEnd <= to) {
+                    nodes.add(new Node(ordinal, yearEnd, YEAR));
+                    ordinal = yearEnd;
+                    continue;
+                }
+            }
+
+            if (minLevel <= MONTH && date.getDayOfMonth() == 1) {
+                long monthEnd = date.plusMonths(1).toEpochDay() * lotsPerDay;
+
+                if (monthEnd <= to) {
+                    nodes.add(new Node(ordinal, monthEnd, MONTH));
+                    ordinal = monthEnd;
+                    continue;
+                }
+            }
+
+            nodes.add(new Node(ordinal, dayEnd, DAY));
+            ordinal = dayEnd;
+        }
+    }
+
+    /**
+     * Covers the lot indexes from {@code from} to {@code to} within a day with blocks of at least the given number
+     * of leading index digits.
+     */
+    private void coverIndexes(long dayStart, int from, int to, int minDigits, List<Node> nodes) {
+        coverBlock(dayStart, 0, 0, from, to, minDigits, nodes);
+    }
+
+    private void coverBlock(long dayStart, long value, int digits, int from, int to, int minDigits, List<Node> nodes) {
+        long size = pow10(indexWidth - digits);
+        long blockStart = value * size;
+        long blockEnd = Math.min(blockStart + size, lotsPerDay);
+
+        if (blockStart >= to || blockEnd <= from) {
+            return;
+        }
+
+        if (digits >= minDigits && from <= blockStart && blockEnd <= to) {
+            nodes.add(new Node(dayStart + blockStart, dayStart + blockEnd, DAY + digits));
+            return;
+        }
+
+        for (int digit = 0; digit < 10; digit++) {
+            coverBlock(dayStart, value * 10 + digit, digits + 1, from, to, minDigits, nodes);
+        }
+    }
+
+    private String prefix(Node node) {
+        String lot = codec.format(node.from * lotMillis);
+        int length;
+
+        switch (node.level) {
+            case YEAR:
+                length = 4;
+                break;
+            case MONTH:
+                length = 6;
+                break;
+            case DAY:
+                length = DATE_WIDTH;
+                break;
+            default:
+                length = DATE_WIDTH + literalLength + node.level - DAY;
+        }
+
+        return base + lot.substring(0, length);
+    }
+
+    private static long pow10(int exponent) {
+        long result = 1;
+
+        for (int i = 0; i < exponent; i++) {
+            result *= 10;
+        }
+
+        return result;
+    }
+
+    private final class Node {
+        private final long from;
+        private final long to;
+        private final int level;
+
+        Node(long from, long to, int level) {
+            this.from = from;
+            this.to = to;
+            this.level = level;
+        }
+
+        long lots() {
+            return to - from;
+        }
+
+        boolean isSplittable() {
+            return level < DAY + indexWidth && lots() > 1;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2023 Chris K Wensel <chris@wensel.net>. All Rights Reserved.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package clusterless.commons.naming;
+
+import clusterless.commons.util.Strings;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.UnaryOperator;
+
+/**
+ * CamelCaseLabel is the result of {@link Label#of(Object)} for a String value, the value is converted to camel case
+ * on use.
+ * <p/>
+ * As none of the format methods are overridden, {@link #appendTo(Appendable, Format)} converts the camel case value
+ * into the given format as it is appended, without rendering the formatted String.
+ */
+final class CamelCaseLabel implements Label {
+    private final String value;
+    private final UnaryOperator<String> toCamelCase;
+
+    CamelCaseLabel(String value, UnaryOperator<String> toCamelCase) {
+        this.value = value;
+        this.toCamelCase = toCamelCase;
+    }
+
+    @Override
+    public String camelCase() {
+        return toCamelCase.apply(value);
+    }
+
+    @Override
+    public <A extends Appendable> A appendTo(A appendable, Format format) {
+        // the abbreviation of this label is itself, so the short formats match their full forms
+        switch (format) {
+            case CamelCase:
+            case CamelCasePath:
+            case ShortCamelCase:
+                return append(appendable, camelCase());
+            case LowerCamelCase:
+                return Strings.appendCamelToLowerCamel(appendable, camelCase());
+            case LowerColonPath:
+            case LowerHyphen:
+            case LowerHyphenPath:
+            case ShortLowerHyphen:
+                return Strings.appendCamelToLowerHyphen(appendable, camelCase());
+            case LowerUnderscore:
+            case ShortLowerUnderscore:
+                return Strings.appendCamelToLowerUnderscore(appendable, camelCase());
+            case UpperUnderscore:
+                return Strings.appendCamelToUpperUnderscore(appendable, camelCase());
+            default:
+                throw new IllegalStateException("unknown format: " + format);
+        }
+    }
+
+    private static <A extends Appendable> A append(A appendable, String value) {
+        if (value == null) {
+            return appendable;
+        }
+
+        try {
+            appendable.append(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return appendable;
+    }
+}
@@ -8,7 +8,12 @@
 
 package clusterless.commons.naming;
 
+import clusterless.commons.util.Strings;
+
+import java.io.IOException;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.util.Objects;
 
 /**
  * Fixed is a Label that retains the value formatting. It won't be coerced into camelCase or
@@ -20,22 +25,36 @@ import java.io.Serializable;
  * <p/>
  * Fixed can be subclassed to provide type values that may optionally have formatting rules.
  * <p/>
- * It is also Serializable so that subclasses may be used as value types.
+ * It is also Serializable so that subclasses may be used as value types. Two instances are equal if they are
+ * of the same class and have the same value, the hash code is computed once on construction.
  */
 public class Fixed implements Label, Serializable {
     private static final Fixed NULL_FIXED = new Fixed(null);
-    String value;
+    private static final InternPool<String, Fixed> POOL = new InternPool<>(4096);
+    final String value;
+    private final int hash;
 
     public static Fixed fixedNull() {
         return NULL_FIXED;
     }
 
+    /**
+     * Returns a Fixed instance for the given value, identical values share a single pooled instance.
+     *
+     * @param value the value to fix
+     * @return a Fixed instance
+     */
     public static Fixed of(String value) {
-        return new Fixed(value);
+        if (value == null) {
+            return NULL_FIXED;
+        }
+
+        return POOL.intern(value, Fixed::new);
     }
 
     protected Fixed(String value) {
         this.value = value;
+        this.hash = Objects.hashCode(value);
     }
 
     public String value() {
@@ -86,6 +105,52 @@ public class Fixed implements Label, Serializable {
         return value();
     }
 
+    @Override
+    public <A extends Appendable> A appendTo(A appendable, Format format) {
+        // a subclass may apply its own formatting rules
+        if (!isBuiltIn()) {
+            return Label.super.appendTo(appendable, format);
+        }
+
+        String value = value();
+
+        if (value == null) {
+            return appendable;
+        }
+
+        // only lower camel case alters the fixed value
+        if (format == Format.LowerCamelCase) {
+            return Strings.appendCamelToLowerCamel(appendable, value);
+        }
+
+        try {
+            appendable.append(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return appendable;
+    }
+
+    private boolean isBuiltIn() {
+        Class<?> type = getClass();
+
+        return type == Fixed.class || type == Stage.class || type == Version.class || type == Region.class;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Fixed fixed = (Fixed) o;
+        return hash == fixed.hash && Objects.equals(value, fixed.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
     @Override
     public String toString() {
         return value();
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2023 Chris K Wensel <chris@wensel.net>. All Rights Reserved.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package clusterless.commons.naming;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * InternPool is a bounded, thread-safe pool of canonical instances keyed by value.
+ * <p/>
+ * Once the pool holds {@code maxSize} entries, new values are created but no longer retained. The bound is
+ * approximate under concurrent use. Pooled values must have value based equality, as callers may receive either
+ * the canonical instance or a new one.
+ *
+ * @param <K> the key type
+ * @param <V> the pooled value type
+ */
+final class InternPool<K, V> {
+    private final int maxSize;
+    private final ConcurrentHashMap<K, V> pool = new ConcurrentHashMap<>();
+
+    InternPool(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the canonical value for the given key, creating it with the given factory if not pooled.
+     *
+     * @param key     the key to look up
+     * @param factory creates the value if not already pooled
+     * @return the canonical value, or a new value if the pool is full
+     */
+    V intern(K key, Function<? super K, ? extends V> factory) {
+        V value = pool.get(key);
+
+        if (value != null) {
+            return value;
+        }
+
+        if (pool.size() >= maxSize) {
+            return factory.apply(key);
+        }
+
+        return pool.computeIfAbsent(key, factory);
+    }
+
+    int size() {
+        return pool.size();
+    }
+}
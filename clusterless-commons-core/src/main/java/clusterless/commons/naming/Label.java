@@ -10,9 +10,12 @@ package clusterless.commons.naming;
 
 import clusterless.commons.util.Strings;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Arrays;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.function.Function;
 
 /**
  * Label simplifies creating complex strings used for naming, displays, and paths.
@@ -50,6 +53,50 @@ public interface Label {
         }
     }
 
+    /**
+     * The formats a Label can be rendered in, see {@link #appendTo(Appendable, Format)}.
+     */
+    enum Format {
+        CamelCase("", Label::camelCase),
+        LowerCamelCase("", Label::lowerCamelCase),
+        CamelCasePath("/", Label::camelCasePath),
+        LowerColonPath(":", Label::lowerColonPath),
+        LowerHyphen("-", Label::lowerHyphen),
+        LowerHyphenPath("/", Label::lowerHyphenPath),
+        LowerUnderscore("_", Label::lowerUnderscore),
+        UpperUnderscore("_", Label::upperUnderscore),
+        ShortCamelCase("", Label::shortCamelCase),
+        ShortLowerHyphen("-", Label::shortLowerHyphen),
+        ShortLowerUnderscore("_", Label::shortLowerUnderscore);
+
+        private final String delimiter;
+        private final Function<Label, String> render;
+
+        Format(String delimiter, Function<Label, String> render) {
+            this.delimiter = delimiter;
+            this.render = render;
+        }
+
+        /**
+         * The delimiter placed between each Label in a chain of Labels.
+         *
+         * @return the delimiter
+         */
+        public String delimiter() {
+            return delimiter;
+        }
+
+        /**
+         * Render the given Label as a String in this format.
+         *
+         * @param label the Label to render
+         * @return the rendered String
+         */
+        public String render(Label label) {
+            return render.apply(label);
+        }
+    }
+
     Label NULL = () -> null;
 
     static String nameOrNull(Label value) {
@@ -116,7 +163,7 @@ public interface Label {
      * @return a Label instance
      */
     static Label fixed(String fixed) {
-        return new Fixed(fixed);
+        return Fixed.of(fixed);
     }
 
     default Label abbreviated(Label abbr) {
@@ -144,7 +191,7 @@ public interface Label {
      * @return a Label instance
      */
     default Label upperOnly() {
-        return new Fixed(Label.this.camelCase() != null ? Label.this.camelCase().toUpperCase(Locale.ROOT) : null);
+        return Fixed.of(Label.this.camelCase() != null ? Label.this.camelCase().toUpperCase(Locale.ROOT) : null);
     }
 
     /**
@@ -172,7 +219,7 @@ public interface Label {
             return fromLowerUnderscore(value);
         }
 
-        return () -> Strings.upperCamel(value);
+        return new CamelCaseLabel(value, Strings::upperCamel);
     }
 
     /**
@@ -182,7 +229,7 @@ public interface Label {
      * @return a Label instance
      */
     static Label fromLowerHyphen(String value) {
-        return () -> Strings.lowerHyphenToUpperCamel(value);
+        return new CamelCaseLabel(value, Strings::lowerHyphenToUpperCamel);
     }
 
     /**
@@ -192,7 +239,7 @@ public interface Label {
      * @return a Label instance
      */
     static Label fromLowerUnderscore(String value) {
-        return () -> Strings.lowerUnderscoreToCamelCase(value);
+        return new CamelCaseLabel(value, Strings::lowerUnderscoreToCamelCase);
     }
 
     /**
@@ -251,72 +298,7 @@ public interface Label {
             return label;
         }
 
-        return new Label() {
-            @Override
-            public String camelCase() {
-                return String.format("%s%s", Label.this.camelCase(), label.camelCase());
-            }
-
-            @Override
-            public String lowerCamelCase() {
-                return String.format("%s%s", Label.this.lowerCamelCase(), label.camelCase());
-            }
-
-            @Override
-            public String lowerColonPath() {
-                return String.format("%s:%s", Label.this.lowerColonPath(), label.lowerColonPath());
-            }
-
-            @Override
-            public String camelCasePath() {
-                return String.format("%s/%s", Label.this.camelCasePath(), label.camelCasePath());
-            }
-
-            @Override
-            public String lowerHyphen() {
-                return String.format("%s-%s", Label.this.lowerHyphen(), label.lowerHyphen());
-            }
-
-            @Override
-            public String lowerHyphenPath() {
-                return String.format("%s/%s", Label.this.lowerHyphenPath(), label.lowerHyphenPath());
-            }
-
-            @Override
-            public String lowerUnderscore() {
-                return String.format("%s_%s", Label.this.lowerUnderscore(), label.lowerUnderscore());
-            }
-
-            @Override
-            public String upperUnderscore() {
-                return String.format("%s_%s", Label.this.upperUnderscore(), label.upperUnderscore());
-            }
-
-            @Override
-            public String shortCamelCase() {
-                return String.format("%s%s", Label.this.shortCamelCase(), label.shortCamelCase());
-            }
-
-            @Override
-            public String shortLowerHyphen() {
-                return String.format("%s-%s", Label.this.shortLowerHyphen(), label.shortLowerHyphen());
-            }
-
-            @Override
-            public String shortLowerUnderscore() {
-                return String.format("%s_%s", Label.this.shortLowerUnderscore(), label.shortLowerUnderscore());
-            }
-
-            @Override
-            public Label becomeLabel() {
-                return Label.this.becomeLabel().with(label.becomeLabel());
-            }
-
-            @Override
-            public String toString() {
-                return camelCase();
-            }
-        };
+        return SegmentedLabel.concat(this, label);
     }
 
     /**
@@ -449,6 +431,37 @@ public interface Label {
         return Strings.camelToLowerUnderscore(shortCamelCase());
     }
 
+    /**
+     * Appends this Label to the given Appendable in the given format.
+     * <p/>
+     * Use this method to write a Label into an existing buffer, a chain of Labels is written segment by segment
+     * without creating an intermediate String of the chain. By default a segment is rendered with the format
+     * method matching the given format, like {@link #lowerHyphen()}, the Labels created by {@link #of(Object)}
+     * convert their value as it is appended. Nothing is appended if the Label is "null".
+     *
+     * @param appendable the Appendable to append to
+     * @param format     the format to render
+     * @param <A>        the type of the Appendable
+     * @return the given Appendable
+     */
+    default <A extends Appendable> A appendTo(A appendable, Format format) {
+        return append(appendable, format.render(this));
+    }
+
+    private static <A extends Appendable> A append(A appendable, CharSequence value) {
+        if (value == null) {
+            return appendable;
+        }
+
+        try {
+            appendable.append(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return appendable;
+    }
+
     /**
      * Compares the given Label to this Label using camel case formatted Strings.
      *
@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2023 Chris K Wensel <chris@wensel.net>. All Rights Reserved.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package clusterless.commons.naming;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * ParsedPartition is the result of {@link Partition#parse(CharSequence)}, the segments of a rendered partition or
+ * path, where each {@code key=value} segment is a named segment.
+ * <p/>
+ * The given value is tokenized in a single pass into the offsets of each segment, every key, value, and segment
+ * is returned as a view over the given value, and a String is only created when the view is converted with
+ * {@code toString()}. The given value must not be modified while parsed.
+ *
+ * <pre>
+ *   ParsedPartition parsed = Partition.parse("/dataset=x/year=2023/month=12/");
+ *   CharSequence year = parsed.get("year"); // "2023"
+ *   parsed.forEachNamed((key, value) -> ...);
+ * </pre>
+ */
+public final class ParsedPartition implements Partition {
+    // start, the index of the first '=' or -1, and end of each segment
+    private static final int STRIDE = 3;
+
+    private final CharSequence source;
+    private final int[] offsets;
+    private final int size;
+    private String partition;
+
+    static ParsedPartition parse(CharSequence source) {
+        Objects.requireNonNull(source, "source");
+
+        int length = source.length();
+        int[] offsets = new int[STRIDE * 4];
+        int size = 0;
+        int start = 0;
+        int equals = -1;
+
+        for (int i = 0; i <= length; i++) {
+            char c = i == length ? '/' : source.charAt(i);
+
+            if (c == '=' && equals == -1) {
+                equals = i;
+            } else if (c == '/') {
+                // empty segments, leading, trailing, or repeated slashes, are dropped
+                if (i > start) {
+                    if (offsets.length == size * STRIDE) {
+                        offsets = Arrays.copyOf(offsets, offsets.length * 2);
+                    }
+
+                    offsets[size * STRIDE] = start;
+                    offsets[size * STRIDE + 1] = equals;
+                    offsets[size * STRIDE + 2] = i;
+                    size++;
+                }
+
+                start = i + 1;
+                equals = -1;
+            }
+        }
+
+        return new ParsedPartition(source, offsets, size);
+    }
+
+    private ParsedPartition(CharSequence source, int[] offsets, int size) {
+        this.source = source;
+        this.offsets = offsets;
+        this.size = size;
+    }
+
+    /**
+     * The number of segments.
+     *
+     * @return the number of segments
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if the segment at the given index is a {@code key=value} segment.
+     *
+     * @param index the segment index
+     * @return true if the segment is named
+     */
+    public boolean isNamed(int index) {
+        Objects.checkIndex(index, size);
+
+        return offsets[index * STRIDE + 1] != -1;
+    }
+
+    /**
+     * The segment at the given index.
+     *
+     * @param index the segment index
+     * @return a view of the segment
+     */
+    public CharSequence segment(int index) {
+        Objects.checkIndex(index, size);
+
+        return new View(source, offsets[index * STRIDE], offsets[index * STRIDE + 2]);
+    }
+
+    /**
+     * The key of the segment at the given index.
+     *
+     * @param index the segment index
+     * @return a view of the key, or null if the segment is not named
+     */
+    public CharSequence key(int index) {
+        if (!isNamed(index)) {
+            return null;
+        }
+
+        return new View(source, offsets[index * STRIDE], offsets[index * STRIDE + 1]);
+    }
+
+    /**
+     * The value of the segment at the given index.
+     *
+     * @param index the segment index
+     * @return a view of the value, or null if the segment is not named
+     */
+    public CharSequence value(int index) {
+        if (!isNamed(index)) {
+            return null;
+        }
+
+        return new View(source, offsets[index * STRIDE + 1] + 1, offsets[index * STRIDE + 2]);
+    }
+
+    /**
+     * Returns the index of the first named segment with the given key.
+     *
+     * @param key the key to find
+     * @return the segment index, or -1 if not found
+     */
+    public int indexOf(CharSequence key) {
+        Objects.requireNonNull(key, "key");
+
+        int keyLength = key.length();
+
+        for (int index = 0; index < size; index++) {
+            int start = offsets[index * STRIDE];
+            int equals = offsets[index * STRIDE + 1];
+
+            if (equals - start == keyLength && regionMatches(start, key, keyLength)) {
+                return index;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the value of the first named segment with the given key.
+     *
+     * @param key the key to find
+     * @return a view of the value, or null if not found
+     */
+    public CharSequence get(CharSequence key) {
+        int index = indexOf(key);
+
+        return index == -1 ? null : value(index);
+    }
+
+    /**
+     * Calls the given consumer with the key and value of every named segment, in order.
+     *
+     * @param consumer the consumer of each key and value
+     */
+    public void forEachNamed(BiConsumer<CharSequence, CharSequence> consumer) {
+        for (int index = 0; index < size; index++) {
+            if (offsets[index * STRIDE + 1] != -1) {
+                consumer.accept(key(index), value(index));
+            }
+        }
+    }
+
+    /**
+     * Results in a string of the segments, with no leading or trailing slash, or null if there are no segments.
+     *
+     * @return String year=2023/month=12
+     */
+    @Override
+    public String partition() {
+        if (size == 0) {
+            return null;
+        }
+
+        String value = partition;
+
+        if (value == null) {
+            StringBuilder builder = new StringBuilder(offsets[size * STRIDE - 1] - offsets[0]);
+
+            for (int index = 0; index < size; index++) {
+                if (index != 0) {
+                    builder.append('/');
+                }
+
+                builder.append(source, offsets[index * STRIDE], offsets[index * STRIDE + 2]);
+            }
+
+            value = builder.toString();
+            partition = value;
+        }
+
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(partition());
+    }
+
+    private boolean regionMatches(int start, CharSequence key, int keyLength) {
+        for (int i = 0; i < keyLength; i++) {
+            if (source.charAt(start + i) != key.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * View is a range of the parsed value, copied only by {@link #toString()}.
+     */
+    private static final class View implements CharSequence {
+        private final CharSequence source;
+        private final int start;
+        private final int end;
+
+        View(CharSequence source, int start, int end) {
+            this.source = source;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public int length() {
+            return end - start;
+        }
+
+        @Override
+        public char charAt(int index) {
+            Objects.checkIndex(index, end - start);
+
+            return source.charAt(start + index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            Objects.checkFromToIndex(start, end, length());
+
+            return new View(source, this.start + start, this.start + end);
+        }
+
+        @Override
+        public String toString() {
+            return source.subSequence(start, end).toString();
+        }
+    }
+}
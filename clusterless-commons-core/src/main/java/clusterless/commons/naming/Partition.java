@@ -8,6 +8,8 @@
 
 package clusterless.commons.naming;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Arrays;
 import java.util.Locale;
 import java.util.Objects;
@@ -38,7 +40,7 @@ public interface Partition {
         String name();
 
         default String partition() {
-            return String.format("%s=%s", key(), value());
+            return key() + "=" + value();
         }
 
         default String key() {
@@ -52,6 +54,20 @@ public interface Partition {
             }
             return name().toLowerCase(Locale.ROOT);
         }
+
+        @Override
+        default <A extends Appendable> A appendTo(A appendable, boolean trailingSlash) {
+            append(appendable, key());
+            append(appendable, "=");
+
+            if (this instanceof Label) {
+                ((Label) this).appendTo(appendable, Label.Format.LowerHyphen);
+            } else {
+                append(appendable, value());
+            }
+
+            return trailingSlash ? append(appendable, "/") : appendable;
+        }
     }
 
     Partition NULL = new Partition() {
@@ -78,6 +94,21 @@ public interface Partition {
         }
     };
 
+    /**
+     * Parses a rendered partition, path, or prefix into its segments, the inverse of {@link #namedOf(Object, Object)}
+     * and {@link #withNamed(Object, Object)}.
+     * <p/>
+     * Segments are separated by one or more slashes, and a segment with an {@code =} is a named segment, split
+     * on the first {@code =}.
+     *
+     * @param value the value to parse, for example /dataset=x/year=2023/month=12/
+     * @return a ParsedPartition instance
+     * @see ParsedPartition
+     */
+    static ParsedPartition parse(CharSequence value) {
+        return ParsedPartition.parse(value);
+    }
+
     static String nameOrNull(Partition value) {
         return value == null ? null : value.partition();
     }
@@ -193,7 +224,19 @@ public interface Partition {
     }
 
     default NamedPartition named(Partition value) {
-        return () -> String.format("%s=%s", partition(), value.partition());
+        return new NamedPartition() {
+            @Override
+            public String partition() {
+                return Partition.this.partition() + "=" + value.partition();
+            }
+
+            @Override
+            public <A extends Appendable> A appendTo(A appendable, boolean trailingSlash) {
+                Partition.this.appendTo(appendable, false);
+                append(appendable, "=");
+                return value.appendTo(appendable, trailingSlash);
+            }
+        };
     }
 
     default Partition withTerminal(Object object) {
@@ -208,6 +251,11 @@ public interface Partition {
                 public String partition() {
                     return Partition.this.partition();
                 }
+
+                @Override
+                public <A extends Appendable> A appendTo(A appendable, boolean trailingSlash) {
+                    return Partition.this.appendTo(appendable, trailingSlash);
+                }
             };
         }
 
@@ -242,7 +290,6 @@ public interface Partition {
             return partition;
         }
 
-
         // collapse the two slashes
         if (this.isSeparator() && partition.isSeparator()) {
             return NULL;
@@ -253,9 +300,7 @@ public interface Partition {
             return this;
         }
 
-        return () -> partition.isLiteral() ?
-                String.format("%s%s", Partition.this.partition(), partition.partition()) :
-                String.format("%s/%s", Partition.this.partition(), partition.partition());
+        return SegmentedPartition.concat(this, partition, partition.isLiteral());
     }
 
     default Partition thisIfNull(Partition partition) {
@@ -316,6 +361,77 @@ public interface Partition {
         return "/".concat(partition(false));
     }
 
+    /**
+     * Appends the partition to the given Appendable, with no leading or trailing slash.
+     * <p/>
+     * Use this method to write a Partition into an existing buffer, a chain of Partitions is written element by
+     * element without creating an intermediate String. Nothing is appended if the Partition is "null".
+     *
+     * @param appendable the Appendable to append to
+     * @param <A>        the type of the Appendable
+     * @return the given Appendable, year=2023/month=12
+     */
+    default <A extends Appendable> A appendTo(A appendable) {
+        return appendTo(appendable, false);
+    }
+
+    /**
+     * Appends the partition to the given Appendable, with no leading but optional trailing slash.
+     *
+     * @param appendable    the Appendable to append to
+     * @param trailingSlash if true, a trailing slash is appended
+     * @param <A>           the type of the Appendable
+     * @return the given Appendable, year=2023/month=12/
+     * @see #partition(boolean)
+     */
+    default <A extends Appendable> A appendTo(A appendable, boolean trailingSlash) {
+        if (isNull()) {
+            return appendable;
+        }
+
+        append(appendable, partition());
+
+        if (trailingSlash) {
+            append(appendable, "/");
+        }
+
+        return appendable;
+    }
+
+    /**
+     * Appends the path to the given Appendable, with a leading and trailing slash.
+     *
+     * @param appendable the Appendable to append to
+     * @param <A>        the type of the Appendable
+     * @return the given Appendable, /year=2023/month=12/
+     * @see #path()
+     */
+    default <A extends Appendable> A appendPathTo(A appendable) {
+        return appendTo(append(appendable, "/"), true);
+    }
+
+    /**
+     * Appends the prefix to the given Appendable, with only a leading slash.
+     *
+     * @param appendable the Appendable to append to
+     * @param <A>        the type of the Appendable
+     * @return the given Appendable, /year=2023/month=12
+     * @see #prefix()
+     */
+    default <A extends Appendable> A appendPrefixTo(A appendable) {
+        return appendTo(append(appendable, "/"), false);
+    }
+
+    private static <A extends Appendable> A append(A appendable, CharSequence value) {
+        try {
+            appendable.append(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return appendable;
+    }
+
     default int compareTo(Partition o) {
         return Objects.compare(partition(), o.partition(), String::compareTo);
     }
@@ -0,0 +1,452 @@
+/*
+ * Copyright (c) 2023 Chris K Wensel <chris@wensel.net>. All Rights Reserved.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package clusterless.commons.naming;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * PartitionPredicate matches object keys or paths against conditions on their named partition segments, for example
+ * {@code year=2023 and month in (11, 12) and lot between 20231101PT15M000 and 20231231PT15M095}.
+ * <p/>
+ * An expression is one or more conditions joined by {@code and}, a condition is a key, an operator, and values:
+ * <ul>
+ *     <li>{@code key = value} and {@code key != value}</li>
+ *     <li>{@code key < value}, {@code key <= value}, {@code key > value}, and {@code key >= value}</li>
+ *     <li>{@code key in (value, value, ...)}</li>
+ *     <li>{@code key between low and high}, inclusive</li>
+ * </ul>
+ * Values may be quoted with single quotes. When both the segment value and the condition value are all digits they
+ * are compared as numbers, so {@code month = 2} matches {@code month=02}, otherwise they are compared character by
+ * character.
+ * <p/>
+ * The expression is compiled once, and a key is tested in a single pass over its characters without splitting or
+ * copying, returning on the first segment failing a condition. Every condition requires its key to be present, a
+ * key repeated in the path must satisfy the condition each time.
+ *
+ * <pre>
+ *   PartitionPredicate predicate = PartitionPredicate.compile("year=2023 and month in (11,12)");
+ *   predicate.test("dataset=orders/year=2023/month=12/part-0.json"); // true
+ * </pre>
+ */
+public final class PartitionPredicate implements Predicate<CharSequence> {
+    private enum Operator {
+        EQ, NE, LT, LE, GT, GE, IN, BETWEEN
+    }
+
+    private final String expression;
+    private final Key[] keys;
+
+    /**
+     * Compiles the given expression.
+     *
+     * @param expression the expression, for example {@code year=2023 and month in (11,12)}
+     * @return a PartitionPredicate instance
+     * @throws IllegalArgumentException if the expression is not valid
+     */
+    public static PartitionPredicate compile(String expression) {
+        Objects.requireNonNull(expression, "expression");
+
+        Map<String, List<Condition>> conditions = new LinkedHashMap<>();
+        Parser parser = new Parser(expression);
+
+        do {
+            String key = parser.value("key");
+            Condition condition = parser.condition();
+
+            conditions.computeIfAbsent(key, k -> new ArrayList<>()).add(condition);
+        } while (parser.keyword("and"));
+
+        parser.end();
+
+        if (conditions.size() > Long.SIZE) {
+            throw new IllegalArgumentException("too many keys, at most: " + Long.SIZE + ", got: " + conditions.size());
+        }
+
+        Key[] keys = new Key[conditions.size()];
+        int index = 0;
+
+        for (Map.Entry<String, List<Condition>> entry : conditions.entrySet()) {
+            keys[index++] = new Key(entry.getKey(), entry.getValue().toArray(new Condition[0]));
+        }
+
+        return new PartitionPredicate(expression, keys);
+    }
+
+    private PartitionPredicate(String expression, Key[] keys) {
+        this.expression = expression;
+        this.keys = keys;
+    }
+
+    /**
+     * The expression this predicate was compiled from.
+     *
+     * @return the expression
+     */
+    public String expression() {
+        return expression;
+    }
+
+    /**
+     * Tests the rendered partition of the given Partition.
+     *
+     * @param partition the partition to test
+     * @return true if every condition is satisfied
+     */
+    public boolean test(Partition partition) {
+        return !partition.isNull() && test(partition.partition());
+    }
+
+    /**
+     * Tests the given object key or path, segments are separated by {@code /}, and a named segment is split on
+     * its first {@code =}.
+     *
+     * @param path the key or path to test
+     * @return true if every condition is satisfied
+     */
+    @Override
+    public boolean test(CharSequence path) {
+        long all = keys.length == Long.SIZE ? -1L : (1L << keys.length) - 1;
+        long seen = 0;
+        int length = path.length();
+        int start = 0;
+
+        while (start <= length) {
+            int equals = -1;
+            int end = start;
+
+            for (; end < length; end++) {
+                char c = path.charAt(end);
+
+                if (c == '/') {
+                    break;
+                }
+
+                if (c == '=' && equals == -1) {
+                    equals = end;
+                }
+            }
+
+            if (equals != -1) {
+                for (int index = 0; index < keys.length; index++) {
+                    Key key = keys[index];
+
+                    if (!key.matches(path, start, equals)) {
+                        continue;
+                    }
+
+                    if (!key.test(path, equals + 1, end)) {
+                        return false;
+                    }
+
+                    seen |= 1L << index;
+                }
+            }
+
+            start = end + 1;
+        }
+
+        return seen == all;
+    }
+
+    @Override
+    public String toString() {
+        return "PartitionPredicate{" +
+                "expression='" + expression + '\'' +
+                '}';
+    }
+
+    /**
+     * Compares the given range of the path to the given value, as numbers if both are all digits.
+     */
+    private static int compare(CharSequence path, int start, int end, String value, boolean valueDigits) {
+        if (valueDigits && isDigits(path, start, end)) {
+            // skip the leading zeros, then the longer number is larger
+            while (start < end - 1 && path.charAt(start) == '0') {
+                start++;
+            }
+
+            int offset = 0;
+
+            while (offset < value.length() - 1 && value.charAt(offset) == '0') {
+                offset++;
+            }
+
+            int lengths = Integer.compare(end - start, value.length() - offset);
+
+            if (lengths != 0) {
+                return lengths;
+            }
+
+            return compareChars(path, start, end, value, offset);
+        }
+
+        return compareChars(path, start, end, value, 0);
+    }
+
+    private static int compareChars(CharSequence path, int start, int end, String value, int offset) {
+        int length = Math.min(end - start, value.length() - offset);
+
+        for (int i = 0; i < length; i++) {
+            int diff = path.charAt(start + i) - value.charAt(offset + i);
+
+            if (diff != 0) {
+                return diff;
+            }
+        }
+
+        return Integer.compare(end - start, value.length() - offset);
+    }
+
+    private static boolean isDigits(CharSequence value, int start, int end) {
+        if (start == end) {
+            return false;
+        }
+
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static final class Key {
+        private final String name;
+        private final Condition[] conditions;
+
+        Key(String name, Condition[] conditions) {
+            this.name = name;
+            this.conditions = conditions;
+        }
+
+        boolean matches(CharSequence path, int start, int end) {
+            if (end - start != name.length()) {
+                return false;
+            }
+
+            for (int i = 0; i < name.length(); i++) {
+                if (path.charAt(start + i) != name.charAt(i)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        boolean test(CharSequence path, int start, int end) {
+            for (Condition condition : conditions) {
+                if (!condition.test(path, start, end)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+
+    private static final class Condition {
+        private final Operator operator;
+        private final String[] values;
+        private final boolean[] digits;
+
+        Condition(Operator operator, List<String> values) {
+            this.operator = operator;
+            this.values = values.toArray(new String[0]);
+            this.digits = new boolean[this.values.length];
+
+            for (int i = 0; i < this.values.length; i++) {
+                digits[i] = isDigits(this.values[i], 0, this.values[i].length());
+            }
+        }
+
+        boolean test(CharSequence path, int start, int end) {
+            switch (operator) {
+                case EQ:
+                    return compare(path, start, end, 0) == 0;
+                case NE:
+                    return compare(path, start, end, 0) != 0;
+                case LT:
+                    return compare(path, start, end, 0) < 0;
+                case LE:
+                    return compare(path, start, end, 0) <= 0;
+                case GT:
+                    return compare(path, start, end, 0) > 0;
+                case GE:
+                    return compare(path, start, end, 0) >= 0;
+                case IN:
+                    for (int i = 0; i < values.length; i++) {
+                        if (compare(path, start, end, i) == 0) {
+                            return true;
+                        }
+                    }
+
+                    return false;
+                case BETWEEN:
+                    return compare(path, start, end, 0) >= 0 && compare(path, start, end, 1) <= 0;
+                default:
+                    throw new IllegalStateException("unknown operator: " + operator);
+            }
+        }
+
+        private int compare(CharSequence path, int start, int end, int index) {
+            return PartitionPredicate.compare(path, start, end, values[index], digits[index]);
+        }
+    }
+
+    private static final class Parser {
+        private final String expression;
+        private int position;
+
+        Parser(String expression) {
+            this.expression = expression;
+        }
+
+        Condition condition() {
+            skipWhitespace();
+
+            if (keyword("in")) {
+                expect('(');
+
+                List<String> values = new ArrayList<>();
+
+                do {
+                    values.add(value("value"));
+                } while (accept(','));
+
+                expect(')');
+
+                return new Condition(Operator.IN, values);
+            }
+
+            if (keyword("between")) {
+                String low = value("value");
+
+                if (!keyword("and")) {
+                    throw error("expected: and");
+                }
+
+                return new Condition(Operator.BETWEEN, List.of(low, value("value")));
+            }
+
+            Operator operator;
+
+            if (accept('=')) {
+                operator = Operator.EQ;
+            } else if (accept('!')) {
+                expect('=');
+                operator = Operator.NE;
+            } else if (accept('<')) {
+                operator = accept('=') ? Operator.LE : Operator.LT;
+            } else if (accept('>')) {
+                operator = accept('=') ? Operator.GE : Operator.GT;
+            } else {
+                throw error("expected an operator");
+            }
+
+            return new Condition(operator, List.of(value("value")));
+        }
+
+        String value(String name) {
+            skipWhitespace();
+
+            if (accept('\'')) {
+                int close = expression.indexOf('\'', position);
+
+                if (close == -1) {
+                    throw error("unclosed quote");
+                }
+
+                String value = expression.substring(position, close);
+
+                position = close + 1;
+
+                return value;
+            }
+
+            int start = position;
+
+            while (position < expression.length() && isValueChar(expression.charAt(position))) {
+                position++;
+            }
+
+            if (start == position) {
+                throw error("expected a " + name);
+            }
+
+            return expression.substring(start, position);
+        }
+
+        boolean keyword(String keyword) {
+            skipWhitespace();
+
+            int end = position + keyword.length();
+
+            if (end > expression.length() || !expression.regionMatches(true, position, keyword, 0, keyword.length())) {
+                return false;
+            }
+
+            // a keyword must not be the start of a longer value
+            if (end < expression.length() && isValueChar(expression.charAt(end))) {
+                return false;
+            }
+
+            position = end;
+
+            return true;
+        }
+
+        boolean accept(char c) {
+            skipWhitespace();
+
+            if (position < expression.length() && expression.charAt(position) == c) {
+                position++;
+                return true;
+            }
+
+            return false;
+        }
+
+        void expect(char c) {
+            if (!accept(c)) {
+                throw error("expected: " + c);
+            }
+        }
+
+        void end() {
+            skipWhitespace();
+
+            if (position != expression.length()) {
+                throw error("unexpected: " + expression.substring(position));
+            }
+        }
+
+        private void skipWhitespace() {
+            while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+                position++;
+            }
+        }
+
+        private static boolean isValueChar(char c) {
+            return !Character.isWhitespace(c) && "=!<>(),'".indexOf(c) == -1;
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(String.format(Locale.ROOT, "%s, at: %d, in expression: %s", message, position, expression));
+        }
+    }
+}
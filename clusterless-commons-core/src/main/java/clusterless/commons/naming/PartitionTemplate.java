@@ -0,0 +1,378 @@
+/*
+ * Copyright (c) 2023 Chris K Wensel <chris@wensel.net>. All Rights Reserved.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package clusterless.commons.naming;
+
+import clusterless.commons.temporal.IntervalBuilder;
+import clusterless.commons.temporal.LotCodec;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+
+/**
+ * PartitionTemplate renders a partition from a template, for example {@code dataset={name}/lot={lot}}, and the
+ * lot of an epoch milliseconds value.
+ * <p/>
+ * The template is parsed once into literal text and variables. The time variables {@code lot}, {@code year},
+ * {@code month}, {@code day}, and {@code hour} are taken from the start of the lot, any other variable must be
+ * given a value with {@link #bind(String, Object)} before rendering.
+ * <p/>
+ * Every value within the same lot renders the same partition, so the partition of the most recent lot is
+ * retained and returned until a value of another lot is rendered.
+ *
+ * <pre>
+ *   PartitionTemplate template = PartitionTemplate.compile("dataset={name}/year={year}/lot={lot}", new IntervalBuilder(IntervalUnit.FOURTHS))
+ *       .bind("name", "orders");
+ *   String partition = template.render(1675727526500L); // "dataset=orders/year=2023/lot=20230206PT15M095"
+ * </pre>
+ */
+public final class PartitionTemplate {
+    private enum Time {
+        lot, year, month, day, hour
+    }
+
+    private static final long MILLIS_PER_HOUR = 60 * 60 * 1000;
+    private static final long MILLIS_PER_DAY = 24 * MILLIS_PER_HOUR;
+
+    private final String template;
+    private final LotCodec codec;
+    private final Part[] parts;
+    private final boolean timed;
+    private final String unbound;
+    private volatile Rendered last;
+
+    /**
+     * Compiles the given template for the lots of the given builder.
+     *
+     * @param template the template, for example {@code dataset={name}/lot={lot}}
+     * @param builder  the builder of the lots to render
+     * @return a PartitionTemplate instance
+     * @throws IllegalArgumentException if the template has an unclosed or empty variable
+     */
+    public static PartitionTemplate compile(String template, IntervalBuilder builder) {
+        Objects.requireNonNull(template, "template");
+        Objects.requireNonNull(builder, "builder");
+
+        List<Part> parts = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int index = 0;
+
+        while (index < template.length()) {
+            int open = template.indexOf('{', index);
+
+            if (open == -1) {
+                literal.append(template, index, template.length());
+                break;
+            }
+
+            int close = template.indexOf('}', open + 1);
+
+            if (close == -1) {
+                throw new IllegalArgumentException("unclosed variable at: " + open + ", in template: " + template);
+            }
+
+            if (close == open + 1) {
+                throw new IllegalArgumentException("empty variable at: " + open + ", in template: " + template);
+            }
+
+            literal.append(template, index, open);
+
+            if (literal.length() != 0) {
+                parts.add(Part.literal(literal.toString()));
+                literal.setLength(0);
+            }
+
+            parts.add(Part.variable(template.substring(open + 1, close)));
+
+            index = close + 1;
+        }
+
+        if (literal.length() != 0) {
+            parts.add(Part.literal(literal.toString()));
+        }
+
+        return new PartitionTemplate(template, builder.lotCodec(), parts.toArray(new Part[0]));
+    }
+
+    private PartitionTemplate(String template, LotCodec codec, Part[] parts) {
+        this.template = template;
+        this.codec = codec;
+        this.parts = parts;
+
+        boolean timed = false;
+        String unbound = null;
+
+        for (Part part : parts) {
+            timed |= part.time != null;
+
+            if (unbound == null && part.name != null && part.time == null) {
+                unbound = part.name;
+            }
+        }
+
+        this.timed = timed;
+        this.unbound = unbound;
+    }
+
+    /**
+     * The template this instance was compiled from.
+     *
+     * @return the template
+     */
+    public String template() {
+        return template;
+    }
+
+    /**
+     * The names of the variables not yet bound, in the order they appear in the template.
+     *
+     * @return a Set of variable names
+     */
+    public Set<String> unbound() {
+        Set<String> names = new LinkedHashSet<>();
+
+        for (Part part : parts) {
+            if (part.name != null && part.time == null) {
+                names.add(part.name);
+            }
+        }
+
+        return names;
+    }
+
+    /**
+     * Returns a new template with the given variable replaced by the given value.
+     * <p/>
+     * A {@link Label} is rendered as {@link Label#lowerHyphen()}, a {@link Partition} as
+     * {@link Partition#partition()}, any other value with {@code toString()}.
+     *
+     * @param name  the variable name
+     * @param value the value of the variable
+     * @return a new PartitionTemplate instance
+     * @throws IllegalArgumentException if the variable is a time variable or is not in the template
+     */
+    public PartitionTemplate bind(String name, Object value) {
+        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(value, "value");
+
+        if (Part.timeOf(name) != null) {
+            throw new IllegalArgumentException("time variable may not be bound: " + name);
+        }
+
+        String text = textOf(value);
+        List<Part> bound = new ArrayList<>(parts.length);
+        boolean found = false;
+
+        for (Part part : parts) {
+            if (!name.equals(part.name)) {
+                bound.add(part);
+                continue;
+            }
+
+            found = true;
+            bound.add(Part.literal(text));
+        }
+
+        if (!found) {
+            throw new IllegalArgumentException("unknown variable: " + name + ", in template: " + template);
+        }
+
+        return new PartitionTemplate(template, codec, merge(bound).toArray(new Part[0]));
+    }
+
+    /**
+     * Returns a new template with every given variable replaced by its value.
+     *
+     * @param values the values by variable name
+     * @return a new PartitionTemplate instance
+     * @see #bind(String, Object)
+     */
+    public PartitionTemplate bind(Map<String, ?> values) {
+        PartitionTemplate result = this;
+
+        for (Map.Entry<String, ?> entry : values.entrySet()) {
+            result = result.bind(entry.getKey(), entry.getValue());
+        }
+
+        return result;
+    }
+
+    /**
+     * Renders the partition of the lot containing the given epoch milliseconds.
+     *
+     * @param epochMilli milliseconds since the epoch
+     * @return the partition, for example dataset=orders/lot=20230206PT15M095
+     * @throws IllegalStateException if a variable is not bound
+     */
+    public String render(long epochMilli) {
+        if (unbound != null) {
+            throw new IllegalStateException("unbound variable: " + unbound + ", in template: " + template);
+        }
+
+        long startMilli = timed ? codec.truncate(epochMilli) : 0;
+        Rendered rendered = last;
+
+        if (rendered != null && rendered.startMilli == startMilli) {
+            return rendered.value;
+        }
+
+        String value = renderLot(startMilli);
+
+        last = new Rendered(startMilli, value);
+
+        return value;
+    }
+
+    /**
+     * Renders the partition of the lot containing the given epoch milliseconds, appending it to the given
+     * Appendable.
+     *
+     * @param epochMilli milliseconds since the epoch
+     * @param appendable the Appendable to append to
+     * @param <A>        the type of the Appendable
+     * @return the given Appendable
+     * @throws IllegalStateException if a variable is not bound
+     */
+    public <A extends Appendable> A renderTo(long epochMilli, A appendable) {
+        try {
+            appendable.append(render(epochMilli));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return appendable;
+    }
+
+    /**
+     * Renders the partition of the lot containing the given epoch milliseconds as a Partition.
+     *
+     * @param epochMilli milliseconds since the epoch
+     * @return a Partition instance
+     * @throws IllegalStateException if a variable is not bound
+     */
+    public Partition partition(long epochMilli) {
+        return Partition.of(render(epochMilli));
+    }
+
+    private String renderLot(long startMilli) {
+        // the lot string begins with the yyyyMMdd of the lot start
+        char[] lot = null;
+
+        if (timed) {
+            lot = new char[codec.length()];
+            codec.format(startMilli, lot, 0);
+        }
+
+        StringBuilder builder = new StringBuilder(template.length() + codec.length());
+
+        for (Part part : parts) {
+            if (part.time == null) {
+                builder.append(part.literal);
+                continue;
+            }
+
+            switch (part.time) {
+                case lot:
+                    builder.append(lot);
+                    break;
+                case year:
+                    builder.append(lot, 0, 4);
+                    break;
+                case month:
+                    builder.append(lot, 4, 2);
+                    break;
+                case day:
+                    builder.append(lot, 6, 2);
+                    break;
+                case hour:
+                    int hour = (int) (Math.floorMod(startMilli, MILLIS_PER_DAY) / MILLIS_PER_HOUR);
+                    builder.append((char) ('0' + hour / 10)).append((char) ('0' + hour % 10));
+                    break;
+            }
+        }
+
+        return builder.toString();
+    }
+
+    private static List<Part> merge(List<Part> parts) {
+        List<Part> merged = new ArrayList<>(parts.size());
+
+        for (Part part : parts) {
+            int lastIndex = merged.size() - 1;
+
+            if (part.literal != null && lastIndex >= 0 && merged.get(lastIndex).literal != null) {
+                merged.set(lastIndex, Part.literal(merged.get(lastIndex).literal + part.literal));
+            } else {
+                merged.add(part);
+            }
+        }
+
+        return merged;
+    }
+
+    private static String textOf(Object value) {
+        if (value instanceof Label) {
+            return ((Label) value).lowerHyphen();
+        }
+
+        if (value instanceof Partition) {
+            return ((Partition) value).partition();
+        }
+
+        return value.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "PartitionTemplate{" +
+                "template='" + template + '\'' +
+                ", unit=" + codec.unit() +
+                '}';
+    }
+
+    private static final class Part {
+        private final String literal;
+        private final String name;
+        private final Time time;
+
+        static Part literal(String literal) {
+            return new Part(literal, null, null);
+        }
+
+        static Part variable(String name) {
+            return new Part(null, name, timeOf(name));
+        }
+
+        static Time timeOf(String name) {
+            for (Time time : Time.values()) {
+                if (time.name().equals(name)) {
+                    return time;
+                }
+            }
+
+            return null;
+        }
+
+        private Part(String literal, String name, Time time) {
+            this.literal = literal;
+            this.name = name;
+            this.time = time;
+        }
+    }
+
+    private static final class Rendered {
+        private final long startMilli;
+        private final String value;
+
+        Rendered(long startMilli, String value) {
+            this.startMilli = startMilli;
+            this.value = value;
+        }
+    }
+}
@@ -38,6 +38,8 @@ import java.util.Optional;
  * </pre>
  */
 public final class Ref {
+    private static final InternPool<String, Ref> PARSED = new InternPool<>(4096);
+
     public static Ref ref() {
         return new Ref();
     }
@@ -63,7 +65,15 @@ public final class Ref {
             return Optional.empty();
         }
 
-        return Qualifier.lookup(value.split(":")[2]);
+        int start = value.indexOf(':', 4) + 1;
+
+        if (start == 0) {
+            return Optional.empty();
+        }
+
+        int end = value.indexOf(':', start);
+
+        return Qualifier.lookup(end == -1 ? value.substring(start) : value.substring(start, end));
     }
 
     public static Optional<String> provider(String value) {
@@ -71,7 +81,139 @@ public final class Ref {
             return Optional.empty();
         }
 
-        return Optional.ofNullable(value.split(":")[1]);
+        int end = value.indexOf(':', 4);
+
+        return Optional.of(end == -1 ? value.substring(4) : value.substring(4, end));
+    }
+
+    /**
+     * Parses the given stringified Ref, as returned by {@link #exportName()}, back into a Ref instance.
+     * <p/>
+     * The value is scanned once, the three leading and five trailing segments are located by their delimiters, and
+     * any single remaining segment between them is the optional stage.
+     *
+     * <pre>
+     *   ref:aws:id:project-a:20230101:core:compute:spot
+     *   ref:aws:id:dev:project-a:20230101:core:compute:spot
+     * </pre>
+     *
+     * @param value the stringified Ref
+     * @return a Ref instance
+     * @throws IllegalArgumentException if the value is not a valid Ref
+     */
+    public static Ref parse(CharSequence value) {
+        Objects.requireNonNull(value, "value may not be null");
+
+        int length = value.length();
+
+        // ref:provider:qualifier:
+        int refEnd = indexOf(value, 0, length);
+        int providerEnd = indexOf(value, refEnd + 1, length);
+        int qualifierEnd = indexOf(value, providerEnd + 1, length);
+
+        if (refEnd != 3 || providerEnd == -1 || qualifierEnd == -1 || !"ref".contentEquals(value.subSequence(0, 3))) {
+            throw new IllegalArgumentException("invalid ref: " + value);
+        }
+
+        // :scope:scopeVersion:resourceNs:resourceType:resourceName
+        int nameStart = lastIndexOf(value, length - 1, qualifierEnd);
+        int typeStart = lastIndexOf(value, nameStart - 1, qualifierEnd);
+        int nsStart = lastIndexOf(value, typeStart - 1, qualifierEnd);
+        int versionStart = lastIndexOf(value, nsStart - 1, qualifierEnd);
+        int scopeStart = lastIndexOf(value, versionStart - 1, qualifierEnd);
+
+        if (scopeStart == -1) {
+            // there are no colons between the qualifier and the end, or too few segments
+            scopeStart = qualifierEnd;
+        }
+
+        if (nameStart == -1 || typeStart == -1 || nsStart == -1 || versionStart == -1) {
+            throw new IllegalArgumentException("invalid ref, too few segments: " + value);
+        }
+
+        // the optional stage may not contain a delimiter
+        if (scopeStart != qualifierEnd && indexOf(value, qualifierEnd + 1, scopeStart) != -1) {
+            throw new IllegalArgumentException("invalid ref, too many segments: " + value);
+        }
+
+        String provider = segment(value, refEnd, providerEnd);
+        String qualifier = segment(value, providerEnd, qualifierEnd);
+        String stage = scopeStart == qualifierEnd ? null : segment(value, qualifierEnd, scopeStart);
+        String scope = segment(value, scopeStart, versionStart);
+        String scopeVersion = segment(value, versionStart, nsStart);
+        String resourceNs = segment(value, nsStart, typeStart);
+        String resourceType = segment(value, typeStart, nameStart);
+        String resourceName = segment(value, nameStart, length);
+
+        if (provider == null || qualifier == null || scope == null || scopeVersion == null || resourceNs == null || resourceType == null || resourceName == null) {
+            throw new IllegalArgumentException("invalid ref, empty segment: " + value);
+        }
+
+        if (stage == null && scopeStart != qualifierEnd) {
+            throw new IllegalArgumentException("invalid ref, empty segment: " + value);
+        }
+
+        Qualifier lookup = Qualifier.lookup(qualifier)
+                .orElseThrow(() -> new IllegalArgumentException("invalid ref, unknown qualifier: " + value));
+
+        return new Ref(
+                Fixed.of(provider),
+                lookup,
+                stage == null ? null : Stage.of(stage),
+                Fixed.of(scope),
+                Version.of(scopeVersion),
+                Fixed.of(resourceNs),
+                Fixed.of(resourceType),
+                Fixed.of(resourceName)
+        );
+    }
+
+    /**
+     * Parses the given stringified Ref, returning a previously parsed instance if the same value was seen before.
+     * <p/>
+     * Use when the same export names are parsed repeatedly. The cache is bounded, values beyond the bound are
+     * parsed on every call.
+     *
+     * @param value the stringified Ref
+     * @return a Ref instance
+     * @throws IllegalArgumentException if the value is not a valid Ref
+     * @see #parse(CharSequence)
+     */
+    public static Ref parseCached(CharSequence value) {
+        Objects.requireNonNull(value, "value may not be null");
+
+        return PARSED.intern(value.toString(), Ref::parse);
+    }
+
+    private static int indexOf(CharSequence value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (value.charAt(i) == ':') {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private static int lastIndexOf(CharSequence value, int from, int floor) {
+        for (int i = from; i > floor; i--) {
+            if (value.charAt(i) == ':') {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the value between the given delimiter positions, or null if empty.
+     */
+    private static String segment(CharSequence value, int delimiter, int end) {
+        if (end - delimiter <= 1) {
+            return null;
+        }
+
+        return value.subSequence(delimiter + 1, end).toString();
     }
 
     final Fixed provider;
@@ -82,6 +224,7 @@ public final class Ref {
     final Fixed resourceNs;
     final Fixed resourceType;
     final Fixed resourceName;
+    private final int hash;
 
     public Ref() {
         provider = Fixed.fixedNull();
@@ -92,6 +235,7 @@ public final class Ref {
         resourceNs = Fixed.fixedNull();
         resourceType = Fixed.fixedNull();
         resourceName = Fixed.fixedNull();
+        hash = hash();
     }
 
     private Ref(Fixed provider, Qualifier qualifier, Stage stage, Fixed scope, Version scopeVersion, Fixed resourceNs, Fixed resourceType, Fixed resourceName) {
@@ -103,6 +247,7 @@ public final class Ref {
         this.resourceNs = resourceNs;
         this.resourceType = resourceType;
         this.resourceName = resourceName;
+        this.hash = hash();
     }
 
     public Ref withProvider(String provider) {
@@ -282,11 +427,15 @@ public final class Ref {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Ref ref = (Ref) o;
-        return Objects.equals(provider, ref.provider) && Objects.equals(stage, ref.stage) && Objects.equals(scope, ref.scope) && Objects.equals(scopeVersion, ref.scopeVersion) && Objects.equals(resourceNs, ref.resourceNs) && Objects.equals(resourceType, ref.resourceType) && Objects.equals(resourceName, ref.resourceName) && qualifier == ref.qualifier;
+        return hash == ref.hash && Objects.equals(provider, ref.provider) && Objects.equals(stage, ref.stage) && Objects.equals(scope, ref.scope) && Objects.equals(scopeVersion, ref.scopeVersion) && Objects.equals(resourceNs, ref.resourceNs) && Objects.equals(resourceType, ref.resourceType) && Objects.equals(resourceName, ref.resourceName) && qualifier == ref.qualifier;
     }
 
     @Override
     public int hashCode() {
+        return hash;
+    }
+
+    private int hash() {
         return Objects.hash(provider, stage, scope, scopeVersion, resourceNs, resourceType, resourceName, qualifier);
     }
 
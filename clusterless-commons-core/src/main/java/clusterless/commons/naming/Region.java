@@ -14,9 +14,17 @@ import java.util.Objects;
  * Region is a {@link Fixed} value that represents an AWS region.
  */
 public class Region extends Fixed {
+    private static final InternPool<String, Region> POOL = new InternPool<>(256);
+
+    /**
+     * Returns a Region for the given value, identical values share a single pooled instance.
+     *
+     * @param region the region name
+     * @return a Region instance
+     */
     public static Region of(String region) {
         Objects.requireNonNull(region, "region may not be null");
-        return new Region(region);
+        return POOL.intern(region, Region::new);
     }
 
     protected Region(String value) {
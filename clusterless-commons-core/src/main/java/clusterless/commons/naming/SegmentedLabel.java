@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2023 Chris K Wensel <chris@wensel.net>. All Rights Reserved.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package clusterless.commons.naming;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * SegmentedLabel is the result of {@link Label#with(Object)}, it holds every Label in the chain as a flat array
+ * of segments.
+ * <p/>
+ * Nested chains are flattened when concatenated, so rendering a chain of N segments is a single pass over the
+ * segments. Each rendered format is computed on first use and retained, Labels are expected to be immutable.
+ */
+final class SegmentedLabel implements Label {
+    private static final Format[] FORMATS = Format.values();
+
+    private final Label[] segments;
+    private final String[] rendered = new String[FORMATS.length];
+
+    /**
+     * Concatenate the given non-null Labels into a single flat Label.
+     *
+     * @param head the leading Label
+     * @param tail the trailing Label
+     * @return a SegmentedLabel instance
+     */
+    static Label concat(Label head, Label tail) {
+        Label[] headSegments = segmentsOf(head);
+        Label[] tailSegments = segmentsOf(tail);
+
+        Label[] segments = new Label[headSegments.length + tailSegments.length];
+
+        System.arraycopy(headSegments, 0, segments, 0, headSegments.length);
+        System.arraycopy(tailSegments, 0, segments, headSegments.length, tailSegments.length);
+
+        return new SegmentedLabel(segments);
+    }
+
+    private static Label[] segmentsOf(Label label) {
+        if (label instanceof SegmentedLabel) {
+            return ((SegmentedLabel) label).segments;
+        }
+
+        return new Label[]{label};
+    }
+
+    private SegmentedLabel(Label[] segments) {
+        this.segments = segments;
+    }
+
+    private String render(Format format) {
+        String value = rendered[format.ordinal()];
+
+        if (value == null) {
+            value = appendSegmentsTo(new StringBuilder(), format).toString();
+            rendered[format.ordinal()] = value;
+        }
+
+        return value;
+    }
+
+    @Override
+    public <A extends Appendable> A appendTo(A appendable, Format format) {
+        String value = rendered[format.ordinal()];
+
+        if (value == null) {
+            return appendSegmentsTo(appendable, format);
+        }
+
+        try {
+            appendable.append(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return appendable;
+    }
+
+    private <A extends Appendable> A appendSegmentsTo(A appendable, Format format) {
+        // only the leading segment is lower camel case
+        Format trailing = format == Format.LowerCamelCase ? Format.CamelCase : format;
+        String delimiter = format.delimiter();
+
+        try {
+            segments[0].appendTo(appendable, format);
+
+            for (int i = 1; i < segments.length; i++) {
+                appendable.append(delimiter);
+                segments[i].appendTo(appendable, trailing);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return appendable;
+    }
+
+    @Override
+    public String camelCase() {
+        return render(Format.CamelCase);
+    }
+
+    @Override
+    public String lowerCamelCase() {
+        return render(Format.LowerCamelCase);
+    }
+
+    @Override
+    public String lowerColonPath() {
+        return render(Format.LowerColonPath);
+    }
+
+    @Override
+    public String camelCasePath() {
+        return render(Format.CamelCasePath);
+    }
+
+    @Override
+    public String lowerHyphen() {
+        return render(Format.LowerHyphen);
+    }
+
+    @Override
+    public String lowerHyphenPath() {
+        return render(Format.LowerHyphenPath);
+    }
+
+    @Override
+    public String lowerUnderscore() {
+        return render(Format.LowerUnderscore);
+    }
+
+    @Override
+    public String upperUnderscore() {
+        return render(Format.UpperUnderscore);
+    }
+
+    @Override
+    public String shortCamelCase() {
+        return render(Format.ShortCamelCase);
+    }
+
+    @Override
+    public String shortLowerHyphen() {
+        return render(Format.ShortLowerHyphen);
+    }
+
+    @Override
+    public String shortLowerUnderscore() {
+        return render(Format.ShortLowerUnderscore);
+    }
+
+    @Override
+    public Label becomeLabel() {
+        Label result = segments[0].becomeLabel();
+
+        for (int i = 1; i < segments.length; i++) {
+            result = result.with(segments[i].becomeLabel());
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return camelCase();
+    }
+}
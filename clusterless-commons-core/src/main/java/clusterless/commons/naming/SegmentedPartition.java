@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2023 Chris K Wensel <chris@wensel.net>. All Rights Reserved.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package clusterless.commons.naming;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * SegmentedPartition is the result of {@link Partition#with(Object)}, it holds every Partition in the chain as a
+ * flat array of segments.
+ * <p/>
+ * Each segment records if it is joined to the previous segment with a slash, or directly when the segment was a
+ * literal. Nested chains are flattened when concatenated, and the {@link #partition()}, {@link #path()} and
+ * {@link #prefix()} forms are computed on first use and retained, Partitions are expected to be immutable.
+ */
+final class SegmentedPartition implements Partition {
+    private final Partition[] segments;
+    private final boolean[] literals;
+
+    private String partition;
+    private String partitionSlash;
+    private String path;
+    private String prefix;
+
+    /**
+     * Concatenate the given non-null Partitions into a single flat Partition.
+     *
+     * @param head    the leading Partition
+     * @param tail    the trailing Partition
+     * @param literal if true, the tail is joined without a slash
+     * @return a SegmentedPartition instance
+     */
+    static Partition concat(Partition head, Partition tail, boolean literal) {
+        Partition[] headSegments = segmentsOf(head);
+        Partition[] tailSegments = segmentsOf(tail);
+        boolean[] headLiterals = literalsOf(head);
+        boolean[] tailLiterals = literalsOf(tail);
+
+        Partition[] segments = new Partition[headSegments.length + tailSegments.length];
+        boolean[] literals = new boolean[segments.length];
+
+        System.arraycopy(headSegments, 0, segments, 0, headSegments.length);
+        System.arraycopy(tailSegments, 0, segments, headSegments.length, tailSegments.length);
+        System.arraycopy(headLiterals, 0, literals, 0, headLiterals.length);
+        System.arraycopy(tailLiterals, 0, literals, headLiterals.length, tailLiterals.length);
+
+        // a nested chain is joined as a whole, only its own segments keep their literal joins
+        literals[headSegments.length] = literal;
+
+        return new SegmentedPartition(segments, literals);
+    }
+
+    private static Partition[] segmentsOf(Partition partition) {
+        if (partition instanceof SegmentedPartition) {
+            return ((SegmentedPartition) partition).segments;
+        }
+
+        return new Partition[]{partition};
+    }
+
+    private static boolean[] literalsOf(Partition partition) {
+        if (partition instanceof SegmentedPartition) {
+            return ((SegmentedPartition) partition).literals;
+        }
+
+        return new boolean[1];
+    }
+
+    private SegmentedPartition(Partition[] segments, boolean[] literals) {
+        this.segments = segments;
+        this.literals = literals;
+    }
+
+    @Override
+    public String partition() {
+        String value = partition;
+
+        if (value == null) {
+            StringBuilder builder = new StringBuilder();
+
+            builder.append(segments[0].partition());
+
+            for (int i = 1; i < segments.length; i++) {
+                if (!literals[i]) {
+                    builder.append('/');
+                }
+
+                builder.append(segments[i].partition());
+            }
+
+            value = builder.toString();
+            partition = value;
+        }
+
+        return value;
+    }
+
+    @Override
+    public boolean isNull() {
+        return false;
+    }
+
+    @Override
+    public String partition(boolean trailingSlash) {
+        if (!trailingSlash) {
+            return partition();
+        }
+
+        String value = partitionSlash;
+
+        if (value == null) {
+            value = partition().concat("/");
+            partitionSlash = value;
+        }
+
+        return value;
+    }
+
+    @Override
+    public String path() {
+        String value = path;
+
+        if (value == null) {
+            value = "/".concat(partition(true));
+            path = value;
+        }
+
+        return value;
+    }
+
+    @Override
+    public String prefix() {
+        String value = prefix;
+
+        if (value == null) {
+            value = "/".concat(partition());
+            prefix = value;
+        }
+
+        return value;
+    }
+
+    @Override
+    public <A extends Appendable> A appendTo(A appendable, boolean trailingSlash) {
+        String value = partition;
+
+        try {
+            if (value != null) {
+                appendable.append(value);
+            } else {
+                segments[0].appendTo(appendable, false);
+
+                for (int i = 1; i < segments.length; i++) {
+                    if (!literals[i]) {
+                        appendable.append('/');
+                    }
+
+                    segments[i].appendTo(appendable, false);
+                }
+            }
+
+            if (trailingSlash) {
+                appendable.append('/');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return appendable;
+    }
+}
@@ -15,9 +15,20 @@ import java.util.Locale;
  */
 public class Stage extends Fixed {
     private static final Stage NULL_STAGE = new Stage(null);
+    private static final InternPool<String, Stage> POOL = new InternPool<>(256);
 
+    /**
+     * Returns an upper case Stage for the given value, identical values share a single pooled instance.
+     *
+     * @param stage the stage name
+     * @return a Stage instance
+     */
     public static Stage of(String stage) {
-        return new Stage(stage == null ? null : stage.toUpperCase(Locale.ROOT));
+        if (stage == null) {
+            return NULL_STAGE;
+        }
+
+        return POOL.intern(stage.toUpperCase(Locale.ROOT), Stage::new);
     }
 
     public static Stage nullStage() {
@@ -32,6 +43,6 @@ public class Stage extends Fixed {
         if (isNull()) {
             return NULL_STAGE;
         }
-        return new Stage(value.toLowerCase());
+        return POOL.intern(value.toLowerCase(), Stage::new);
     }
 }
@@ -15,10 +15,17 @@ import java.util.Objects;
  */
 public class Version extends Fixed {
     private static final Version NULL_VERSION = new Version(null);
+    private static final InternPool<String, Version> POOL = new InternPool<>(256);
 
+    /**
+     * Returns a Version for the given value, identical values share a single pooled instance.
+     *
+     * @param version the version
+     * @return a Version instance
+     */
     public static Version of(String version) {
         Objects.requireNonNull(version, "version may not be null");
-        return new Version(version);
+        return POOL.intern(version, Version::new);
     }
 
     public static Version versionNull() {
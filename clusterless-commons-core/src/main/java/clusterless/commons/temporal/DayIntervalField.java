@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2023 Chris K Wensel <chris@wensel.net>. All Rights Reserved.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package clusterless.commons.temporal;
+
+import java.time.format.ResolverStyle;
+import java.time.temporal.*;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+import static java.time.temporal.ChronoUnit.DAYS;
+
+/**
+ * The index of an interval within the day, for any unit that evenly divides a day into whole minutes.
+ * <p/>
+ * This is the generated counterpart of {@link IntervalField}, use {@link IntervalUnits#field(TemporalUnit)} to get
+ * the field of a unit.
+ */
+public final class DayIntervalField implements TemporalField {
+    private final String name;
+    private final TemporalUnit baseUnit;
+    private final long minutes;
+    private final ValueRange range;
+
+    DayIntervalField(TemporalUnit baseUnit) {
+        this.name = baseUnit + "OfDay";
+        this.baseUnit = baseUnit;
+        this.minutes = baseUnit.getDuration().toMinutes();
+        this.range = ValueRange.of(0, EpochDays.MINUTES_PER_DAY / minutes - 1);
+    }
+
+    @Override
+    public String getDisplayName(Locale locale) {
+        Objects.requireNonNull(locale, "locale");
+        return name;
+    }
+
+    @Override
+    public TemporalUnit getBaseUnit() {
+        return baseUnit;
+    }
+
+    @Override
+    public TemporalUnit getRangeUnit() {
+        return DAYS;
+    }
+
+    @Override
+    public ValueRange range() {
+        return range;
+    }
+
+    @Override
+    public boolean isDateBased() {
+        return false;
+    }
+
+    @Override
+    public boolean isTimeBased() {
+        return true;
+    }
+
+    @Override
+    public boolean isSupportedBy(TemporalAccessor temporal) {
+        return temporal.isSupported(ChronoField.MINUTE_OF_DAY);
+    }
+
+    @Override
+    public ValueRange rangeRefinedBy(TemporalAccessor temporal) {
+        return range;
+    }
+
+    @Override
+    public long getFrom(TemporalAccessor temporal) {
+        return EpochDays.minuteOfDay(temporal) / minutes;
+    }
+
+    /**
+     * Returns the value of this field for the given epoch second in UTC.
+     *
+     * @param epochSecond seconds since the epoch
+     * @return the index of the interval within the day
+     */
+    public long getFromEpochSecond(long epochSecond) {
+        return EpochDays.intervalOfDay(epochSecond, minutes);
+    }
+
+    /**
+     * Returns the value of this field for the given epoch milliseconds in UTC.
+     *
+     * @param epochMilli milliseconds since the epoch
+     * @return the index of the interval within the day
+     */
+    public long getFromEpochMilli(long epochMilli) {
+        return EpochDays.intervalOfDayMilli(epochMilli, minutes);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <R extends Temporal> R adjustInto(R temporal, long newValue) {
+        range.checkValidValue(newValue, this);
+
+        long minuteOfDay = temporal.getLong(ChronoField.MINUTE_OF_DAY);
+
+        // retains the offset within the interval
+        return (R) temporal.with(ChronoField.MINUTE_OF_DAY, newValue * minutes + Math.floorMod(minuteOfDay, minutes));
+    }
+
+    @Override
+    public TemporalAccessor resolve(Map<TemporalField, Long> fieldValues, TemporalAccessor partialTemporal, ResolverStyle resolverStyle) {
+        Long value = fieldValues.remove(this);
+
+        if (value == null) {
+            throw new IllegalStateException("field missing " + this);
+        }
+
+        fieldValues.put(ChronoField.MINUTE_OF_DAY, Math.multiplyExact(value, minutes));
+
+        return null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        DayIntervalField that = (DayIntervalField) o;
+        return minutes == that.minutes;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minutes);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2023 Chris K Wensel <chris@wensel.net>. All Rights Reserved.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package clusterless.commons.temporal;
+
+import java.time.Duration;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalUnit;
+
+import static java.time.temporal.ChronoField.MINUTE_OF_DAY;
+import static java.time.temporal.ChronoUnit.MINUTES;
+
+/**
+ * Breaks a day into intervals of any whole number of minutes that evenly divides a day, for example a 2-minute
+ * duration breaks a day into 720 intervals.
+ * <p/>
+ * Use {@link IntervalUnits#of(Duration)} to get an instance, it returns an {@link IntervalUnit} or
+ * {@link java.time.temporal.ChronoUnit} when one has the requested duration.
+ * <p/>
+ * The name of the unit is the ISO-8601 duration, for example {@code PT2M}.
+ */
+public final class DayIntervalUnit implements TemporalUnit {
+    private final String name;
+    private final Duration duration;
+    private final long minutes;
+
+    DayIntervalUnit(Duration duration) {
+        this.name = duration.toString();
+        this.duration = duration;
+        this.minutes = duration.toMinutes();
+    }
+
+    @Override
+    public Duration getDuration() {
+        return duration;
+    }
+
+    @Override
+    public boolean isDurationEstimated() {
+        return false;
+    }
+
+    @Override
+    public boolean isDateBased() {
+        return false;
+    }
+
+    @Override
+    public boolean isTimeBased() {
+        return true;
+    }
+
+    @Override
+    public boolean isSupportedBy(Temporal temporal) {
+        return temporal.isSupported(MINUTE_OF_DAY);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <R extends Temporal> R addTo(R temporal, long amount) {
+        return (R) temporal.plus(Math.multiplyExact(minutes, amount), MINUTES);
+    }
+
+    @Override
+    public long between(Temporal temporal1Inclusive, Temporal temporal2Exclusive) {
+        if (temporal1Inclusive.getClass() != temporal2Exclusive.getClass()) {
+            return temporal1Inclusive.until(temporal2Exclusive, this);
+        }
+
+        return temporal1Inclusive.until(temporal2Exclusive, MINUTES) / minutes;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        DayIntervalUnit that = (DayIntervalUnit) o;
+        return minutes == that.minutes;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minutes);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2023 Chris K Wensel <chris@wensel.net>. All Rights Reserved.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package clusterless.commons.temporal;
+
+import java.time.*;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+
+/**
+ * EpochDays converts between days since the epoch and the proleptic Gregorian calendar date in UTC, using integer
+ * arithmetic only.
+ * <p/>
+ * Dates are exchanged as a packed {@code yyyyMMdd} int, for example {@code 20230206}, and only the years
+ * {@code 0} through {@code 9999} are supported, matching the four digit year of the lot formats.
+ */
+final class EpochDays {
+    static final long MILLIS_PER_DAY = 24L * 60 * 60 * 1000;
+    static final int MINUTES_PER_DAY = 24 * 60;
+    static final long SECONDS_PER_DAY = 24L * 60 * 60;
+
+    private static final long DAYS_0000_TO_1970 = 719468; // days from 0000-03-01 to 1970-01-01
+    private static final int DAYS_PER_CYCLE = 146097; // days in a 400 year cycle
+
+    private EpochDays() {
+    }
+
+    /**
+     * Returns the packed {@code yyyyMMdd} date of the given epoch day.
+     *
+     * @param epochDay days since 1970-01-01
+     * @return the date as {@code year * 10000 + month * 100 + day}
+     * @throws DateTimeException if the year is outside 0 through 9999
+     */
+    static int toYearMonthDay(long epochDay) {
+        // shift the year to begin in March so the leap day is the last day of the year
+        long zeroDay = epochDay + DAYS_0000_TO_1970;
+        long era = Math.floorDiv(zeroDay, DAYS_PER_CYCLE);
+        long dayOfEra = zeroDay - era * DAYS_PER_CYCLE;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long marchMonth = (5 * dayOfYear + 2) / 153;
+        long day = dayOfYear - (153 * marchMonth + 2) / 5 + 1;
+        long month = marchMonth < 10 ? marchMonth + 3 : marchMonth - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+        if (year < 0 || year > 9999) {
+            throw new DateTimeException("year cannot be printed as the value " + year + " exceeds the maximum print width of 4");
+        }
+
+        return (int) (year * 10000 + month * 100 + day);
+    }
+
+    /**
+     * Returns the epoch day of the given date, the date is not validated.
+     *
+     * @param year  the year
+     * @param month the month of year, 1 through 12
+     * @param day   the day of month, 1 through 31
+     * @return days since 1970-01-01
+     */
+    static long toEpochDay(int year, int month, int day) {
+        long marchYear = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(marchYear, 400);
+        long yearOfEra = marchYear - era * 400;
+        long dayOfYear = (153L * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+
+        return era * DAYS_PER_CYCLE + dayOfEra - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * Returns the number of days in the given month.
+     *
+     * @param year  the year
+     * @param month the month of year, 1 through 12
+     * @return the number of days in the month
+     */
+    static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * Returns the minute of the day of the given epoch second in UTC.
+     *
+     * @param epochSecond seconds since the epoch
+     * @return the minute of the day, 0 through 1439
+     */
+    static int minuteOfDay(long epochSecond) {
+        return (int) (Math.floorMod(epochSecond, SECONDS_PER_DAY) / 60);
+    }
+
+    /**
+     * Returns the index within the day of the interval of the given length holding the given epoch second in UTC.
+     *
+     * @param epochSecond seconds since the epoch
+     * @param minutes     the length of the interval in minutes
+     * @return the index of the interval within the day
+     */
+    static long intervalOfDay(long epochSecond, long minutes) {
+        return minuteOfDay(epochSecond) / minutes;
+    }
+
+    /**
+     * Returns the index within the day of the interval of the given length holding the given epoch milliseconds
+     * in UTC.
+     *
+     * @param epochMilli milliseconds since the epoch
+     * @param minutes    the length of the interval in minutes
+     * @return the index of the interval within the day
+     */
+    static long intervalOfDayMilli(long epochMilli, long minutes) {
+        return intervalOfDay(Math.floorDiv(epochMilli, 1000), minutes);
+    }
+
+    /**
+     * Returns the minute of the day of the given temporal, an {@link Instant} is in UTC.
+     * <p/>
+     * The common date time types are read directly, other types are queried for {@link ChronoField#MINUTE_OF_DAY}.
+     *
+     * @param temporal the temporal to query
+     * @return the minute of the day, 0 through 1439
+     */
+    static int minuteOfDay(TemporalAccessor temporal) {
+        if (temporal instanceof Instant) {
+            return minuteOfDay(((Instant) temporal).getEpochSecond());
+        }
+
+        if (temporal instanceof OffsetDateTime) {
+            OffsetDateTime dateTime = (OffsetDateTime) temporal;
+            return dateTime.getHour() * 60 + dateTime.getMinute();
+        }
+
+        if (temporal instanceof ZonedDateTime) {
+            ZonedDateTime dateTime = (ZonedDateTime) temporal;
+            return dateTime.getHour() * 60 + dateTime.getMinute();
+        }
+
+        if (temporal instanceof LocalDateTime) {
+            LocalDateTime dateTime = (LocalDateTime) temporal;
+            return dateTime.getHour() * 60 + dateTime.getMinute();
+        }
+
+        if (temporal instanceof LocalTime) {
+            LocalTime time = (LocalTime) temporal;
+            return time.getHour() * 60 + time.getMinute();
+        }
+
+        return temporal.get(ChronoField.MINUTE_OF_DAY);
+    }
+
+    /**
+     * Writes the given non-negative value as exactly {@code width} zero padded digits.
+     *
+     * @param value  the value to write
+     * @param width  the number of digits to write
+     * @param buffer the buffer to write into
+     * @param offset the offset of the first digit
+     * @return the offset following the last digit
+     */
+    static int writeDigits(long value, int width, char[] buffer, int offset) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+
+        return offset + width;
+    }
+
+    /**
+     * Appends the given non-negative value as exactly {@code width} zero padded digits.
+     *
+     * @param value   the value to append
+     * @param width   the number of digits to append
+     * @param builder the builder to append to
+     * @return the given builder
+     */
+    static StringBuilder appendDigits(long value, int width, StringBuilder builder) {
+        long divisor = 1;
+
+        for (int i = 1; i < width; i++) {
+            divisor *= 10;
+        }
+
+        for (; divisor > 0; divisor /= 10) {
+            builder.append((char) ('0' + (value / divisor) % 10));
+        }
+
+        return builder;
+    }
+}
@@ -14,22 +14,101 @@ import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalUnit;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  *
  */
 public class IntervalBuilder {
+    /**
+     * The last lot formatted, replaced as a whole so concurrent readers never see a partial update.
+     */
+    private static final class LastLot {
+        final long startMilli;
+        final long endMilli;
+        final String lot;
+
+        LastLot(long startMilli, long endMilli, String lot) {
+            this.startMilli = startMilli;
+            this.endMilli = endMilli;
+            this.lot = lot;
+        }
+    }
+
     final TemporalUnit lotUnit;
     final DateTimeFormatter lotFormatter;
+    final LotCodec lotCodec;
+    final boolean cacheLastLot;
+    private volatile LastLot lastLot;
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
 
     public IntervalBuilder(TemporalUnit lotUnit) {
-        this.lotUnit = lotUnit;
-        this.lotFormatter = IntervalUnits.formatter(this.lotUnit);
+        this(lotUnit, false);
     }
 
     public IntervalBuilder(String lotUnit) {
-        this.lotUnit = IntervalUnits.find(lotUnit);
+        this(IntervalUnits.find(lotUnit));
+    }
+
+    /**
+     * Creates an IntervalBuilder that optionally retains the last formatted lot.
+     * <p/>
+     * When enabled, {@link #truncateAndFormat(Instant)} and {@link #truncateAndFormat(long)} return the retained lot
+     * string when the given time falls within the last lot formatted, use when consecutive times are likely to be in
+     * the same lot. See {@link #cacheHits()} and {@link #cacheMisses()} for the effectiveness of the cache.
+     *
+     * @param lotUnit      the lot unit
+     * @param cacheLastLot true to retain the last formatted lot
+     */
+    public IntervalBuilder(TemporalUnit lotUnit, boolean cacheLastLot) {
+        this.lotUnit = lotUnit;
         this.lotFormatter = IntervalUnits.formatter(this.lotUnit);
+        this.lotCodec = LotCodec.of(this.lotUnit);
+        this.cacheLastLot = cacheLastLot;
+    }
+
+    /**
+     * Creates an IntervalBuilder that optionally retains the last formatted lot.
+     *
+     * @param lotUnit      the name of the lot unit
+     * @param cacheLastLot true to retain the last formatted lot
+     * @see #IntervalBuilder(TemporalUnit, boolean)
+     */
+    public IntervalBuilder(String lotUnit, boolean cacheLastLot) {
+        this(IntervalUnits.find(lotUnit), cacheLastLot);
+    }
+
+    /**
+     * The number of times a lot string was returned from the last lot cache.
+     *
+     * @return the number of cache hits, always 0 if the cache is disabled
+     */
+    public long cacheHits() {
+        return cacheHits.sum();
+    }
+
+    /**
+     * The number of times a lot string was formatted as the time was outside the cached last lot.
+     *
+     * @return the number of cache misses, always 0 if the cache is disabled
+     */
+    public long cacheMisses() {
+        return cacheMisses.sum();
+    }
+
+    /**
+     * The codec used to format and parse lots of this builder's unit.
+     *
+     * @return the {@link LotCodec} of the lot unit
+     */
+    public LotCodec lotCodec() {
+        return lotCodec;
     }
 
     public String truncateAndFormat(OffsetDateTime time) {
@@ -37,6 +116,10 @@ public class IntervalBuilder {
     }
 
     public String truncateAndFormat(Instant instant) {
+        if (cacheLastLot) {
+            return truncateAndFormat(instant.toEpochMilli());
+        }
+
         return format(truncate(instant));
     }
 
@@ -67,4 +150,171 @@ public class IntervalBuilder {
     public Instant previous(Instant instant) {
         return instant.minus(lotUnit.getDuration());
     }
+
+    /**
+     * Truncates the given epoch milliseconds to the start of its lot.
+     *
+     * @param epochMilli milliseconds since the epoch
+     * @return the start of the lot in milliseconds since the epoch
+     */
+    public long truncate(long epochMilli) {
+        return lotCodec.truncate(epochMilli);
+    }
+
+    /**
+     * Returns the index of the lot within its day, the same value as the {@link IntervalField} of the lot unit.
+     *
+     * @param epochMilli milliseconds since the epoch
+     * @return the index of the lot within the day
+     */
+    public int lotIndex(long epochMilli) {
+        return lotCodec.index(epochMilli);
+    }
+
+    /**
+     * The length of a formatted lot.
+     *
+     * @return the number of chars in a formatted lot
+     */
+    public int formattedLength() {
+        return lotCodec.length();
+    }
+
+    /**
+     * Truncates and formats the given epoch milliseconds, the result is identical to
+     * {@link #truncateAndFormat(Instant)}.
+     *
+     * @param epochMilli milliseconds since the epoch
+     * @return the formatted lot
+     */
+    @NotNull
+    public String truncateAndFormat(long epochMilli) {
+        if (!cacheLastLot) {
+            return lotCodec.format(epochMilli);
+        }
+
+        LastLot last = lastLot;
+
+        if (last != null && epochMilli >= last.startMilli && epochMilli < last.endMilli) {
+            cacheHits.increment();
+            return last.lot;
+        }
+
+        cacheMisses.increment();
+
+        long startMilli = lotCodec.truncate(epochMilli);
+        String lot = lotCodec.format(startMilli);
+
+        lastLot = new LastLot(startMilli, startMilli + lotCodec.lotMillis(), lot);
+
+        return lot;
+    }
+
+    /**
+     * Truncates and formats the given epoch milliseconds into the given buffer.
+     * <p/>
+     * The buffer must have {@link #formattedLength()} chars available from the offset.
+     *
+     * @param epochMilli milliseconds since the epoch
+     * @param buffer     the buffer to write into
+     * @param offset     the offset to begin writing at
+     * @return the offset following the formatted lot
+     */
+    public int truncateAndFormat(long epochMilli, char[] buffer, int offset) {
+        return lotCodec.format(epochMilli, buffer, offset);
+    }
+
+    /**
+     * Truncates and formats the given epoch milliseconds, appending the lot to the given builder.
+     *
+     * @param epochMilli milliseconds since the epoch
+     * @param builder    the builder to append to
+     * @return the given builder
+     */
+    public StringBuilder truncateAndFormat(long epochMilli, StringBuilder builder) {
+        return lotCodec.format(epochMilli, builder);
+    }
+
+    /**
+     * Returns the {@link Lot} containing the given epoch milliseconds.
+     *
+     * @param epochMilli milliseconds since the epoch
+     * @return a Lot instance
+     */
+    public Lot lot(long epochMilli) {
+        return new Lot(lotCodec, lotCodec.truncate(epochMilli));
+    }
+
+    /**
+     * Returns the {@link Lot} containing the given instant.
+     *
+     * @param instant the instant
+     * @return a Lot instance
+     */
+    public Lot lot(Instant instant) {
+        return lot(instant.toEpochMilli());
+    }
+
+    /**
+     * Returns a lazily generated Stream of every {@link Lot} overlapping the given range, in chronological order.
+     * <p/>
+     * The first lot contains the start, the last lot starts before the end. The Stream splits evenly by lot for
+     * parallel processing.
+     *
+     * @param startInclusive the start of the range, inclusive
+     * @param endExclusive   the end of the range, exclusive
+     * @return a Stream of Lot instances
+     */
+    public Stream<Lot> lots(Instant startInclusive, Instant endExclusive) {
+        return lots(startInclusive.toEpochMilli(), endExclusive.toEpochMilli());
+    }
+
+    /**
+     * Returns a lazily generated Stream of every {@link Lot} overlapping the given range, in chronological order.
+     *
+     * @param startInclusive the start of the range in milliseconds since the epoch, inclusive
+     * @param endExclusive   the end of the range in milliseconds since the epoch, exclusive
+     * @return a Stream of Lot instances
+     * @see #lots(Instant, Instant)
+     */
+    public Stream<Lot> lots(long startInclusive, long endExclusive) {
+        return StreamSupport.stream(lotSpliterator(startInclusive, endExclusive), false);
+    }
+
+    /**
+     * Returns a Spliterator of every {@link Lot} overlapping the given range, in chronological order.
+     *
+     * @param startInclusive the start of the range in milliseconds since the epoch, inclusive
+     * @param endExclusive   the end of the range in milliseconds since the epoch, exclusive
+     * @return a Spliterator of Lot instances
+     * @see #lots(Instant, Instant)
+     */
+    public Spliterator<Lot> lotSpliterator(long startInclusive, long endExclusive) {
+        long lotMillis = lotCodec.lotMillis();
+        long first = Math.floorDiv(startInclusive, lotMillis);
+        long end = endExclusive > startInclusive ? Math.floorDiv(endExclusive - 1, lotMillis) + 1 : first;
+
+        return new LotSpliterator(lotCodec, first, end);
+    }
+
+    /**
+     * Groups the given epoch milliseconds by lot, see {@link LotBuckets}.
+     *
+     * @param epochMillis milliseconds since the epoch
+     * @return a LotBuckets instance
+     */
+    public LotBuckets lotBuckets(long[] epochMillis) {
+        return new LotBuckets(lotCodec, epochMillis, null);
+    }
+
+    /**
+     * Groups the given epoch milliseconds by lot, split across the given pool, see {@link LotBuckets}.
+     *
+     * @param epochMillis milliseconds since the epoch
+     * @param pool        the pool to run on
+     * @return a LotBuckets instance
+     */
+    public LotBuckets lotBuckets(long[] epochMillis, ForkJoinPool pool) {
+        return new LotBuckets(lotCodec, epochMillis, Objects.requireNonNull(pool, "pool"));
+    }
 }
@@ -11,6 +11,7 @@ package clusterless.commons.temporal;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.TemporalField;
 import java.time.temporal.TemporalUnit;
 
 import static clusterless.commons.temporal.IntervalField.*;
@@ -61,4 +62,24 @@ public class IntervalDateTimeFormatter {
                 .toFormatter()
                 .withZone(ZoneOffset.UTC);
     }
+
+    /**
+     * Creates a formatter for lots of the given field, the date, the duration of the field unit, and the index of
+     * the lot within the day.
+     *
+     * @param field      the field of the lot index
+     * @param indexWidth the number of digits of the lot index
+     * @return a DateTimeFormatter
+     */
+    static DateTimeFormatter create(TemporalField field, int indexWidth) {
+        return new DateTimeFormatterBuilder()
+                .parseStrict()
+                .appendValue(YEAR, 4)
+                .appendValue(MONTH_OF_YEAR, 2)
+                .appendValue(DAY_OF_MONTH, 2)
+                .appendLiteral(field.getBaseUnit().getDuration().toString())
+                .appendValue(field, indexWidth)
+                .toFormatter()
+                .withZone(ZoneOffset.UTC);
+    }
 }
@@ -8,9 +8,6 @@
 
 package clusterless.commons.temporal;
 
-import java.time.Duration;
-import java.time.Instant;
-import java.time.ZoneOffset;
 import java.time.chrono.Chronology;
 import java.time.format.ResolverStyle;
 import java.time.temporal.*;
@@ -49,10 +46,12 @@ public enum IntervalField implements TemporalField {
     private final TemporalUnit baseUnit;
     private final TemporalUnit rangeUnit;
     private final ValueRange range;
+    private final long minutes;
 
     IntervalField(String name, TemporalUnit baseUnit, TemporalUnit rangeUnit, ValueRange range) {
         this.name = name;
         this.baseUnit = baseUnit;
+        this.minutes = baseUnit.getDuration().toMinutes();
         this.rangeUnit = rangeUnit;
         this.range = range;
     }
@@ -173,15 +172,27 @@ public enum IntervalField implements TemporalField {
 
     @Override
     public long getFrom(TemporalAccessor temporal) {
-        if (temporal instanceof Instant) {
-            temporal = ((Instant) temporal).atZone(ZoneOffset.UTC);
-        }
-
-        int i = temporal.get(ChronoField.MINUTE_OF_DAY);
+        return EpochDays.minuteOfDay(temporal) / minutes;
+    }
 
-        Duration duration = baseUnit.getDuration();
+    /**
+     * Returns the value of this field for the given epoch second in UTC.
+     *
+     * @param epochSecond seconds since the epoch
+     * @return the index of the interval within the day
+     */
+    public long getFromEpochSecond(long epochSecond) {
+        return EpochDays.intervalOfDay(epochSecond, minutes);
+    }
 
-        return Math.floorDiv(i, duration.toMinutes());
+    /**
+     * Returns the value of this field for the given epoch milliseconds in UTC.
+     *
+     * @param epochMilli milliseconds since the epoch
+     * @return the index of the interval within the day
+     */
+    public long getFromEpochMilli(long epochMilli) {
+        return EpochDays.intervalOfDayMilli(epochMilli, minutes);
     }
 
     @SuppressWarnings("unchecked")
@@ -198,7 +209,7 @@ public enum IntervalField implements TemporalField {
             throw new IllegalStateException("field missing " + this);
         }
 
-        fieldValues.put(ChronoField.MINUTE_OF_DAY, baseUnit.getDuration().multipliedBy(value).toMinutes());
+        fieldValues.put(ChronoField.MINUTE_OF_DAY, value * minutes);
 
         return null;
     }
@@ -8,17 +8,122 @@
 
 package clusterless.commons.temporal;
 
+import java.time.Duration;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalField;
 import java.time.temporal.TemporalUnit;
-import java.util.Locale;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utility class for looking up a formatter given a unit, or a unit given a name.
  */
 public class IntervalUnits {
+    private static final Map<String, TemporalUnit> names = new HashMap<>();
+    private static final Map<Long, TemporalUnit> units = new ConcurrentHashMap<>();
+    private static final Map<TemporalUnit, TemporalField> fields = new ConcurrentHashMap<>();
+    private static final Map<TemporalUnit, DateTimeFormatter> formatters = new ConcurrentHashMap<>();
+
+    static {
+        for (ChronoUnit unit : ChronoUnit.values()) {
+            names.put(unit.name(), unit);
+        }
+
+        // interval units take precedence over chrono units of the same name
+        for (IntervalUnit unit : IntervalUnit.values()) {
+            names.put(unit.name(), unit);
+        }
+
+        for (TemporalUnit unit : List.of(ChronoUnit.MINUTES, ChronoUnit.HOURS, ChronoUnit.HALF_DAYS, ChronoUnit.DAYS, IntervalUnit.FOURTHS, IntervalUnit.SIXTHS, IntervalUnit.TWELFTHS)) {
+            units.put(unit.getDuration().toMinutes(), unit);
+        }
+
+        fields.put(IntervalUnit.FOURTHS, IntervalField.FOURTH_OF_DAY);
+        fields.put(IntervalUnit.SIXTHS, IntervalField.SIXTH_OF_DAY);
+        fields.put(IntervalUnit.TWELFTHS, IntervalField.TWELFTH_OF_DAY);
+
+        formatters.put(IntervalUnit.FOURTHS, IntervalDateTimeFormatter.FOURTH_FORMATTER);
+        formatters.put(IntervalUnit.SIXTHS, IntervalDateTimeFormatter.SIXTH_FORMATTER);
+        formatters.put(IntervalUnit.TWELFTHS, IntervalDateTimeFormatter.TWELFTH_FORMATTER);
+    }
+
+    /**
+     * Returns true if the given unit evenly divides a day into a whole number of minutes, and so can be used as a
+     * lot unit.
+     *
+     * @param unit a TemporalUnit instance
+     * @return true if the unit is supported
+     */
+    public static boolean isSupported(TemporalUnit unit) {
+        Objects.requireNonNull(unit, "unit");
+
+        return isSupported(unit.getDuration());
+    }
+
+    private static boolean isSupported(Duration duration) {
+        if (duration.isNegative() || duration.isZero() || duration.toSeconds() % 60 != 0 || duration.getNano() != 0) {
+            return false;
+        }
+
+        long minutes = duration.toMinutes();
+
+        return minutes <= EpochDays.MINUTES_PER_DAY && EpochDays.MINUTES_PER_DAY % minutes == 0;
+    }
+
+    /**
+     * Returns the TemporalUnit with the given duration, an {@link IntervalUnit} or {@link ChronoUnit} if one has the
+     * same duration, otherwise a {@link DayIntervalUnit}.
+     *
+     * @param duration the duration of the unit, must evenly divide a day into whole minutes
+     * @return TemporalUnit
+     * @throws IllegalArgumentException if the duration does not evenly divide a day into whole minutes
+     */
+    public static TemporalUnit of(Duration duration) {
+        Objects.requireNonNull(duration, "duration");
+
+        if (!isSupported(duration)) {
+            throw new IllegalArgumentException("duration must evenly divide a day into whole minutes, got: " + duration);
+        }
+
+        return units.computeIfAbsent(duration.toMinutes(), minutes -> new DayIntervalUnit(duration));
+    }
+
+    /**
+     * Returns the field of the index of an interval within a day for the given unit.
+     *
+     * @param unit a TemporalUnit instance
+     * @return an {@link IntervalField} for an {@link IntervalUnit}, otherwise a {@link DayIntervalField}
+     * @throws IllegalArgumentException if the unit does not evenly divide a day into whole minutes
+     */
+    public static TemporalField field(TemporalUnit unit) {
+        Objects.requireNonNull(unit, "unit");
+
+        TemporalField field = fields.get(unit);
+
+        if (field != null) {
+            return field;
+        }
+
+        if (!isSupported(unit)) {
+            throw new IllegalArgumentException("unsupported unit: " + unit);
+        }
+
+        return fields.computeIfAbsent(unit, DayIntervalField::new);
+    }
+
+    /**
+     * Returns the number of digits of the interval index in a formatted lot, at least 3.
+     *
+     * @param unit a TemporalUnit instance
+     * @return the number of digits
+     */
+    static int indexWidth(TemporalUnit unit) {
+        long lastIndex = EpochDays.MINUTES_PER_DAY / unit.getDuration().toMinutes() - 1;
+
+        return Math.max(3, Long.toString(lastIndex).length());
+    }
 
     /**
      * Finds an appropriate DateTimeFormatter for the given unit
@@ -33,27 +138,34 @@ public class IntervalUnits {
 
     /**
      * Finds an appropriate DateTimeFormatter for the given unit
+     * <p/>
+     * Any unit that evenly divides a day into whole minutes has a formatter, formatters are created on first use.
      *
      * @param unit a TemporalUnit instance to lookup
      * @return DateTimeFormatter
      * @throws IllegalArgumentException if the given unit does not have an associated formatter
      */
     public static DateTimeFormatter formatter(TemporalUnit unit) {
-        if (unit == IntervalUnit.FOURTHS) {
-            return IntervalDateTimeFormatter.FOURTH_FORMATTER;
-        }
-        if (unit == IntervalUnit.SIXTHS) {
-            return IntervalDateTimeFormatter.SIXTH_FORMATTER;
+        Objects.requireNonNull(unit, "unit");
+
+        DateTimeFormatter formatter = formatters.get(unit);
+
+        if (formatter != null) {
+            return formatter;
         }
-        if (unit == IntervalUnit.TWELFTHS) {
-            return IntervalDateTimeFormatter.TWELFTH_FORMATTER;
+
+        if (!isSupported(unit)) {
+            throw new IllegalArgumentException("unsupported unit: " + unit);
         }
 
-        throw new IllegalArgumentException("unsupported unit: " + unit);
+        return formatters.computeIfAbsent(unit, u -> IntervalDateTimeFormatter.create(field(u), indexWidth(u)));
     }
 
     /**
      * Finds a TemporalUnit with the given name.
+     * <p/>
+     * The name is the case-insensitive name of a {@link ChronoUnit} or {@link IntervalUnit}, or an ISO-8601 duration
+     * that evenly divides a day into whole minutes, for example {@code PT2M}.
      *
      * @param name of a TemporaUnit
      * @return TemporalUnit
@@ -62,15 +174,29 @@ public class IntervalUnits {
     public static TemporalUnit find(String name) {
         Objects.requireNonNull(name, "name");
 
-        try {
-            return ChronoUnit.valueOf(name.toUpperCase(Locale.ROOT));
-        } catch (IllegalArgumentException e) {
-            return IntervalUnit.valueOf(name.toUpperCase(Locale.ROOT));
+        String upperCase = name.toUpperCase(Locale.ROOT);
+        TemporalUnit unit = names.get(upperCase);
+
+        if (unit != null) {
+            return unit;
+        }
+
+        if (upperCase.startsWith("P")) {
+            try {
+                return of(Duration.parse(upperCase));
+            } catch (DateTimeParseException e) {
+                // fall through
+            }
         }
+
+        throw new IllegalArgumentException("unknown unit: " + name);
     }
 
     /**
      * Given a string with an embedded duration, find the TemporalUnit associated with that duration.
+     * <p/>
+     * The {@link IntervalUnit} and {@link ChronoUnit} durations are searched first, then the first embedded
+     * duration of hours or minutes that evenly divides a day.
      *
      * @param string with an embedded duration
      * @return TemporalUnit or null
@@ -90,6 +216,24 @@ public class IntervalUnits {
             }
         }
 
+        for (int start = string.indexOf("PT"); start != -1; start = string.indexOf("PT", start + 1)) {
+            int end = start + 2;
+
+            while (end < string.length() && string.charAt(end) >= '0' && string.charAt(end) <= '9') {
+                end++;
+            }
+
+            if (end == start + 2 || end == string.length() || (string.charAt(end) != 'M' && string.charAt(end) != 'H')) {
+                continue;
+            }
+
+            Duration duration = Duration.parse(string.substring(start, end + 1));
+
+            if (isSupported(duration)) {
+                return Optional.of(of(duration));
+            }
+        }
+
         return Optional.empty();
     }
 }
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2023 Chris K Wensel <chris@wensel.net>. All Rights Reserved.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package clusterless.commons.temporal;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Instant;
+import java.time.temporal.TemporalUnit;
+import java.util.Objects;
+
+/**
+ * Lot is a single interval of a lot unit, identified by the epoch milliseconds the interval starts at.
+ * <p/>
+ * The formatted lot string is only created when first requested, see {@link #format()}.
+ * Lots are ordered chronologically by start, then by the duration of their unit, as {@link LotIds} are.
+ */
+public final class Lot implements Comparable<Lot> {
+    private final LotCodec codec;
+    private final long startMilli;
+    private String formatted;
+
+    /**
+     * Returns the Lot of the given unit containing the given epoch milliseconds.
+     *
+     * @param unit       the lot unit
+     * @param epochMilli milliseconds since the epoch
+     * @return a Lot instance
+     */
+    public static Lot of(TemporalUnit unit, long epochMilli) {
+        LotCodec codec = LotCodec.of(unit);
+
+        return new Lot(codec, codec.truncate(epochMilli));
+    }
+
+    Lot(LotCodec codec, long startMilli) {
+        this.codec = codec;
+        this.startMilli = startMilli;
+    }
+
+    /**
+     * The lot unit of this Lot.
+     *
+     * @return the lot unit
+     */
+    public TemporalUnit unit() {
+        return codec.unit();
+    }
+
+    /**
+     * The start of this Lot, inclusive.
+     *
+     * @return the start in milliseconds since the epoch
+     */
+    public long startMilli() {
+        return startMilli;
+    }
+
+    /**
+     * The end of this Lot, exclusive, and the start of the next Lot.
+     *
+     * @return the end in milliseconds since the epoch
+     */
+    public long endMilli() {
+        return startMilli + codec.lotMillis();
+    }
+
+    /**
+     * The start of this Lot, inclusive.
+     *
+     * @return the start as an Instant
+     */
+    public Instant start() {
+        return Instant.ofEpochMilli(startMilli);
+    }
+
+    /**
+     * The index of this Lot within its day.
+     *
+     * @return the index of the lot within the day
+     */
+    public int index() {
+        return codec.index(startMilli);
+    }
+
+    /**
+     * The formatted lot string, for example {@code 20230206PT15M095}.
+     *
+     * @return the formatted lot string
+     */
+    @NotNull
+    public String format() {
+        String value = formatted;
+
+        if (value == null) {
+            value = codec.format(startMilli);
+            formatted = value;
+        }
+
+        return value;
+    }
+
+    @Override
+    public int compareTo(@NotNull Lot o) {
+        int result = Long.compare(startMilli, o.startMilli);
+
+        if (result != 0 || codec == o.codec) {
+            return result;
+        }
+
+        // lots of different units starting together are ordered by duration, so the ordering is consistent with equals
+        result = Long.compare(codec.lotMillis(), o.codec.lotMillis());
+
+        if (result != 0) {
+            return result;
+        }
+
+        return codec.unit().toString().compareTo(o.codec.unit().toString());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Lot lot = (Lot) o;
+        return startMilli == lot.startMilli && codec == lot.codec;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(codec.unit(), startMilli);
+    }
+
+    @Override
+    public String toString() {
+        return format();
+    }
+}
@@ -0,0 +1,429 @@
+/*
+ * Copyright (c) 2023 Chris K Wensel <chris@wensel.net>. All Rights Reserved.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package clusterless.commons.temporal;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.temporal.TemporalUnit;
+import java.util.*;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * LotBitmap tracks which lots of a lot unit have been seen, for example to find the lots of a month that have not
+ * yet arrived.
+ * <p/>
+ * Each day with at least one lot marked holds a fixed size bitset of one bit per lot of the day, keyed by the days
+ * since the epoch, a year of 5-minute lots fits in about 15 kilobytes.
+ *
+ * <pre>
+ *   LotBitmap bitmap = new LotBitmap(IntervalUnit.TWELFTHS);
+ *   bitmap.mark(epochMilli);
+ *   bitmap.missing(startOfMonth, endOfMonth).forEach(lotStart -> ...);
+ * </pre>
+ * <p/>
+ * This class is not thread-safe.
+ */
+public final class LotBitmap {
+    private static final byte VERSION = 1;
+    private static final byte PARTIAL = 0;
+    private static final byte FULL = 1;
+
+    private final LotCodec codec;
+    private final long lotMillis;
+    private final int lotsPerDay;
+    private final int wordsPerDay;
+    private final TreeMap<Long, long[]> days = new TreeMap<>();
+
+    public LotBitmap(TemporalUnit unit) {
+        this.codec = LotCodec.of(unit);
+        this.lotMillis = codec.lotMillis();
+        this.lotsPerDay = codec.lotsPerDay();
+        this.wordsPerDay = (lotsPerDay + 63) >>> 6;
+    }
+
+    /**
+     * The lot unit of this bitmap.
+     *
+     * @return the lot unit
+     */
+    public TemporalUnit unit() {
+        return codec.unit();
+    }
+
+    /**
+     * Marks the lot containing the given epoch milliseconds as seen.
+     *
+     * @param epochMilli milliseconds since the epoch
+     * @return true if the lot was not previously marked
+     */
+    public boolean mark(long epochMilli) {
+        long ordinal = Math.floorDiv(epochMilli, lotMillis);
+        long day = Math.floorDiv(ordinal, lotsPerDay);
+        int index = (int) (ordinal - day * lotsPerDay);
+
+        long[] words = days.computeIfAbsent(day, d -> new long[wordsPerDay]);
+        long bit = 1L << index;
+        long word = words[index >>> 6];
+
+        words[index >>> 6] = word | bit;
+
+        return (word & bit) == 0;
+    }
+
+    /**
+     * Marks the given lot as seen.
+     *
+     * @param lot the lot, must be of the same unit
+     * @return true if the lot was not previously marked
+     */
+    public boolean mark(Lot lot) {
+        requireSameUnit(lot.unit());
+
+        return mark(lot.startMilli());
+    }
+
+    /**
+     * Returns true if the lot containing the given epoch milliseconds was marked.
+     *
+     * @param epochMilli milliseconds since the epoch
+     * @return true if the lot was marked
+     */
+    public boolean contains(long epochMilli) {
+        long ordinal = Math.floorDiv(epochMilli, lotMillis);
+        long day = Math.floorDiv(ordinal, lotsPerDay);
+        long[] words = days.get(day);
+
+        if (words == null) {
+            return false;
+        }
+
+        int index = (int) (ordinal - day * lotsPerDay);
+
+        return (words[index >>> 6] & 1L << index) != 0;
+    }
+
+    /**
+     * Returns true if the given lot was marked.
+     *
+     * @param lot the lot, must be of the same unit
+     * @return true if the lot was marked
+     */
+    public boolean contains(Lot lot) {
+        requireSameUnit(lot.unit());
+
+        return contains(lot.startMilli());
+    }
+
+    /**
+     * The number of lots marked.
+     *
+     * @return the number of lots marked
+     */
+    public long cardinality() {
+        long count = 0;
+
+        for (long[] words : days.values()) {
+            count += cardinality(words);
+        }
+
+        return count;
+    }
+
+    /**
+     * Returns the start of every lot overlapping the given range that was not marked, in chronological order.
+     *
+     * @param startInclusive the start of the range in milliseconds since the epoch, inclusive
+     * @param endExclusive   the end of the range in milliseconds since the epoch, exclusive
+     * @return a LongStream of lot starts in milliseconds since the epoch
+     */
+    public LongStream missing(long startInclusive, long endExclusive) {
+        long first = Math.floorDiv(startInclusive, lotMillis);
+        long end = endExclusive > startInclusive ? Math.floorDiv(endExclusive - 1, lotMillis) + 1 : first;
+
+        Spliterator.OfLong spliterator = Spliterators.spliteratorUnknownSize(new MissingIterator(first, end), Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.SORTED | Spliterator.NONNULL);
+
+        return StreamSupport.longStream(spliterator, false);
+    }
+
+    /**
+     * Returns true if every lot overlapping the given range was marked.
+     *
+     * @param startInclusive the start of the range in milliseconds since the epoch, inclusive
+     * @param endExclusive   the end of the range in milliseconds since the epoch, exclusive
+     * @return true if no lot in the range is missing
+     */
+    public boolean isComplete(long startInclusive, long endExclusive) {
+        return missing(startInclusive, endExclusive).findFirst().isEmpty();
+    }
+
+    /**
+     * Returns a new bitmap with the lots marked in this or the given bitmap.
+     *
+     * @param other a bitmap of the same unit
+     * @return a new LotBitmap
+     */
+    public LotBitmap union(LotBitmap other) {
+        requireSameUnit(other.unit());
+
+        LotBitmap result = copy();
+
+        for (Map.Entry<Long, long[]> entry : other.days.entrySet()) {
+            long[] words = result.days.computeIfAbsent(entry.getKey(), d -> new long[wordsPerDay]);
+            long[] otherWords = entry.getValue();
+
+            for (int i = 0; i < wordsPerDay; i++) {
+                words[i] |= otherWords[i];
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns a new bitmap with the lots marked in both this and the given bitmap.
+     *
+     * @param other a bitmap of the same unit
+     * @return a new LotBitmap
+     */
+    public LotBitmap intersection(LotBitmap other) {
+        requireSameUnit(other.unit());
+
+        LotBitmap result = new LotBitmap(unit());
+
+        for (Map.Entry<Long, long[]> entry : days.entrySet()) {
+            long[] otherWords = other.days.get(entry.getKey());
+
+            if (otherWords == null) {
+                continue;
+            }
+
+            long[] words = entry.getValue().clone();
+            long any = 0;
+
+            for (int i = 0; i < wordsPerDay; i++) {
+                words[i] &= otherWords[i];
+                any |= words[i];
+            }
+
+            if (any != 0) {
+                result.days.put(entry.getKey(), words);
+            }
+        }
+
+        return result;
+    }
+
+    private LotBitmap copy() {
+        LotBitmap result = new LotBitmap(unit());
+
+        for (Map.Entry<Long, long[]> entry : days.entrySet()) {
+            result.days.put(entry.getKey(), entry.getValue().clone());
+        }
+
+        return result;
+    }
+
+    /**
+     * Serializes this bitmap, days with every lot marked are written without their bitset.
+     *
+     * @return the serialized form
+     * @see #fromBytes(byte[])
+     */
+    public byte[] toBytes() {
+        int size = 1 + 4 + 4;
+
+        for (long[] words : days.values()) {
+            size += 8 + 1 + (cardinality(words) == lotsPerDay ? 0 : wordsPerDay * 8);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+
+        buffer.put(VERSION);
+        buffer.putInt((int) (lotMillis / 60_000));
+        buffer.putInt(days.size());
+
+        for (Map.Entry<Long, long[]> entry : days.entrySet()) {
+            long[] words = entry.getValue();
+
+            buffer.putLong(entry.getKey());
+
+            if (cardinality(words) == lotsPerDay) {
+                buffer.put(FULL);
+                continue;
+            }
+
+            buffer.put(PARTIAL);
+
+            for (long word : words) {
+                buffer.putLong(word);
+            }
+        }
+
+        return buffer.array();
+    }
+
+    /**
+     * Deserializes a bitmap written by {@link #toBytes()}.
+     *
+     * @param bytes the serialized form
+     * @return a LotBitmap
+     * @throws IllegalArgumentException if the bytes are not a serialized LotBitmap
+     */
+    public static LotBitmap fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+
+        try {
+            byte version = buffer.get();
+
+            if (version != VERSION) {
+                throw new IllegalArgumentException("unsupported lot bitmap version: " + version);
+            }
+
+            LotBitmap bitmap = new LotBitmap(IntervalUnits.of(Duration.ofMinutes(buffer.getInt())));
+            int count = buffer.getInt();
+
+            for (int i = 0; i < count; i++) {
+                long day = buffer.getLong();
+                byte kind = buffer.get();
+                long[] words = new long[bitmap.wordsPerDay];
+
+                if (kind == FULL) {
+                    for (int index = 0; index < bitmap.lotsPerDay; index++) {
+                        words[index >>> 6] |= 1L << index;
+                    }
+                } else if (kind == PARTIAL) {
+                    for (int w = 0; w < words.length; w++) {
+                        words[w] = buffer.getLong();
+                    }
+                } else {
+                    throw new IllegalArgumentException("invalid lot bitmap day: " + kind);
+                }
+
+                bitmap.days.put(day, words);
+            }
+
+            if (buffer.hasRemaining()) {
+                throw new IllegalArgumentException("invalid lot bitmap, trailing bytes: " + buffer.remaining());
+            }
+
+            return bitmap;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("invalid lot bitmap, truncated", e);
+        }
+    }
+
+    private static int cardinality(long[] words) {
+        int count = 0;
+
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+
+        return count;
+    }
+
+    private void requireSameUnit(TemporalUnit unit) {
+        if (!codec.unit().equals(unit)) {
+            throw new IllegalArgumentException("lot unit must be: " + codec.unit() + ", got: " + unit);
+        }
+    }
+
+    /**
+     * Iterates the ordinals of unmarked lots, skipping whole words of marked lots at a time.
+     */
+    private final class MissingIterator implements PrimitiveIterator.OfLong {
+        private long ordinal;
+        private final long end;
+
+        MissingIterator(long ordinal, long end) {
+            this.ordinal = ordinal;
+            this.end = end;
+        }
+
+        @Override
+        public boolean hasNext() {
+            advance();
+
+            return ordinal < end;
+        }
+
+        @Override
+        public long nextLong() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            return ordinal++ * lotMillis;
+        }
+
+        private void advance() {
+            while (ordinal < end) {
+                long day = Math.floorDiv(ordinal, lotsPerDay);
+                long dayStart = day * lotsPerDay;
+                long[] words = days.get(day);
+
+                // no lots marked in the day
+                if (words == null) {
+                    return;
+                }
+
+                int index = (int) (ordinal - dayStart);
+                long unmarked = ~words[index >>> 6] & -1L << index;
+
+                if (unmarked != 0) {
+                    int found = (index & ~63) + Long.numberOfTrailingZeros(unmarked);
+
+                    // the bits past the last lot of the day are never marked
+                    ordinal = found < lotsPerDay ? dayStart + found : dayStart + lotsPerDay;
+
+                    if (found < lotsPerDay) {
+                        return;
+                    }
+
+                    continue;
+                }
+
+                ordinal = dayStart + Math.min((index & ~63) + 64, lotsPerDay);
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        LotBitmap that = (LotBitmap) o;
+
+        if (codec != that.codec || days.size() != that.days.size()) {
+            return false;
+        }
+
+        for (Map.Entry<Long, long[]> entry : days.entrySet()) {
+            if (!Arrays.equals(entry.getValue(), that.days.get(entry.getKey()))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = codec.unit().hashCode();
+
+        for (Map.Entry<Long, long[]> entry : days.entrySet()) {
+            result = 31 * result + Long.hashCode(entry.getKey());
+            result = 31 * result + Arrays.hashCode(entry.getValue());
+        }
+
+        return result;
+    }
+}
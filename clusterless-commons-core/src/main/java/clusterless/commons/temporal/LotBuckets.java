@@ -0,0 +1,367 @@
+/*
+ * Copyright (c) 2023 Chris K Wensel <chris@wensel.net>. All Rights Reserved.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package clusterless.commons.temporal;
+
+import java.time.temporal.TemporalUnit;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * LotBuckets groups an array of epoch milliseconds by lot with a counting sort, without boxing any value.
+ * <p/>
+ * A bucket is created for every lot from the earliest to the latest value, bucket {@code 0} is the lot of the
+ * earliest value. The {@link #permutation()} lists the positions of the values in the given array grouped by
+ * bucket, in the order they appear in the array, and {@link #start(int)} and {@link #end(int)} are the range
+ * of a bucket within the permutation.
+ *
+ * <pre>
+ *   LotBuckets buckets = LotBuckets.of(IntervalUnit.FOURTHS, epochMillis, ForkJoinPool.commonPool());
+ *   int[] permutation = buckets.permutation();
+ *   buckets.nonEmpty().forEach(bucket -> write(buckets.lot(bucket), permutation, buckets.start(bucket), buckets.end(bucket)));
+ * </pre>
+ * <p/>
+ * When given a {@link ForkJoinPool}, the array is split into chunks, each chunk computes its own histogram,
+ * and each chunk then scatters its positions into its own ranges of the permutation.
+ * <p/>
+ * A histogram has a counter per lot, so when the values span more than four lots per value, beyond the first
+ * 65536 lots, for example a single outlier years from the rest, the distinct lots are first found by sorting a
+ * copy of the lot ordinals, and only the lots holding a value are given a bucket, still in chronological order.
+ * Every bucket is then non-empty.
+ */
+public final class LotBuckets {
+    private static final int MIN_CHUNK = 1 << 16;
+    private static final int DENSE_LOTS_PER_VALUE = 4;
+    private static final int MIN_DENSE_BUCKETS = 1 << 16;
+    private static final int MAX_DENSE_BUCKETS = Integer.MAX_VALUE - 8;
+
+    private final LotCodec codec;
+    private final long firstOrdinal;
+    private final long[] ordinals;
+    private final int[] offsets;
+    private final int[] permutation;
+
+    /**
+     * Groups the given values by lot on the calling thread.
+     *
+     * @param unit        the lot unit
+     * @param epochMillis milliseconds since the epoch
+     * @return a LotBuckets instance
+     */
+    public static LotBuckets of(TemporalUnit unit, long[] epochMillis) {
+        return new LotBuckets(LotCodec.of(unit), epochMillis, null);
+    }
+
+    /**
+     * Groups the given values by lot, split across the given pool.
+     *
+     * @param unit        the lot unit
+     * @param epochMillis milliseconds since the epoch
+     * @param pool        the pool to run on
+     * @return a LotBuckets instance
+     */
+    public static LotBuckets of(TemporalUnit unit, long[] epochMillis, ForkJoinPool pool) {
+        return new LotBuckets(LotCodec.of(unit), epochMillis, Objects.requireNonNull(pool, "pool"));
+    }
+
+    LotBuckets(LotCodec codec, long[] epochMillis, ForkJoinPool pool) {
+        Objects.requireNonNull(epochMillis, "epochMillis");
+
+        this.codec = codec;
+
+        int length = epochMillis.length;
+        int chunks = pool == null ? 1 : Math.max(1, Math.min(pool.getParallelism(), length / MIN_CHUNK));
+        long lotMillis = codec.lotMillis();
+        long[] mins = new long[chunks];
+        long[] maxs = new long[chunks];
+
+        run(pool, chunks, chunk -> {
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+
+            for (int i = from(chunk, chunks, length), to = from(chunk + 1, chunks, length); i < to; i++) {
+                min = Math.min(min, epochMillis[i]);
+                max = Math.max(max, epochMillis[i]);
+            }
+
+            mins[chunk] = min;
+            maxs[chunk] = max;
+        });
+
+        if (length == 0) {
+            this.firstOrdinal = 0;
+            this.ordinals = null;
+            this.offsets = new int[1];
+            this.permutation = new int[0];
+            return;
+        }
+
+        long first = Math.floorDiv(min(mins), lotMillis);
+        long last = Math.floorDiv(max(maxs), lotMillis);
+        long span = last - first + 1;
+        boolean dense = span <= Math.min(MAX_DENSE_BUCKETS, (long) DENSE_LOTS_PER_VALUE * length + MIN_DENSE_BUCKETS);
+        long[] ordinals = dense ? null : distinctOrdinals(epochMillis, lotMillis);
+        int buckets = dense ? (int) span : ordinals.length;
+        // a histogram per chunk, fewer chunks when the lots outnumber the values
+        int parts = (int) Math.max(1, Math.min(chunks, 4L * length / buckets));
+        int[] bucketOf = new int[length];
+        int[][] histograms = new int[parts][buckets];
+
+        run(pool, parts, chunk -> {
+            int[] histogram = histograms[chunk];
+
+            for (int i = from(chunk, parts, length), to = from(chunk + 1, parts, length); i < to; i++) {
+                long ordinal = Math.floorDiv(epochMillis[i], lotMillis);
+                int bucket = dense ? (int) (ordinal - first) : Arrays.binarySearch(ordinals, ordinal);
+
+                bucketOf[i] = bucket;
+                histogram[bucket]++;
+            }
+        });
+
+        // the offset of each bucket, and the offset of each chunk within the bucket
+        int[] offsets = new int[buckets + 1];
+        int offset = 0;
+
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            offsets[bucket] = offset;
+
+            for (int chunk = 0; chunk < parts; chunk++) {
+                int count = histograms[chunk][bucket];
+
+                histograms[chunk][bucket] = offset;
+                offset += count;
+            }
+        }
+
+        offsets[buckets] = offset;
+
+        int[] permutation = new int[length];
+
+        run(pool, parts, chunk -> {
+            int[] next = histograms[chunk];
+
+            for (int i = from(chunk, parts, length), to = from(chunk + 1, parts, length); i < to; i++) {
+                permutation[next[bucketOf[i]]++] = i;
+            }
+        });
+
+        this.firstOrdinal = first;
+        this.ordinals = ordinals;
+        this.offsets = offsets;
+        this.permutation = permutation;
+    }
+
+    /**
+     * The lot unit of these buckets.
+     *
+     * @return the lot unit
+     */
+    public TemporalUnit unit() {
+        return codec.unit();
+    }
+
+    /**
+     * The number of values grouped.
+     *
+     * @return the number of values
+     */
+    public int size() {
+        return permutation.length;
+    }
+
+    /**
+     * The number of buckets, one per lot from the earliest to the latest value, or one per distinct lot when the
+     * values are sparse.
+     *
+     * @return the number of buckets
+     */
+    public int buckets() {
+        return offsets.length - 1;
+    }
+
+    /**
+     * Returns the index of every bucket holding at least one value, in chronological order.
+     *
+     * @return an IntStream of bucket indexes
+     */
+    public IntStream nonEmpty() {
+        return IntStream.range(0, buckets()).filter(bucket -> offsets[bucket] != offsets[bucket + 1]);
+    }
+
+    /**
+     * The lot of the given bucket.
+     *
+     * @param bucket the bucket index
+     * @return a Lot instance
+     */
+    public Lot lot(int bucket) {
+        return new Lot(codec, startMilli(bucket));
+    }
+
+    /**
+     * The start of the lot of the given bucket.
+     *
+     * @param bucket the bucket index
+     * @return the start of the lot in milliseconds since the epoch
+     */
+    public long startMilli(int bucket) {
+        Objects.checkIndex(bucket, buckets());
+
+        long ordinal = ordinals == null ? firstOrdinal + bucket : ordinals[bucket];
+
+        return ordinal * codec.lotMillis();
+    }
+
+    /**
+     * The number of values in the given bucket.
+     *
+     * @param bucket the bucket index
+     * @return the number of values
+     */
+    public int count(int bucket) {
+        return offsets[bucket + 1] - offsets[bucket];
+    }
+
+    /**
+     * The offset of the first position of the given bucket in the {@link #permutation()}, inclusive.
+     *
+     * @param bucket the bucket index
+     * @return the offset into the permutation
+     */
+    public int start(int bucket) {
+        return offsets[bucket];
+    }
+
+    /**
+     * The offset following the last position of the given bucket in the {@link #permutation()}, exclusive.
+     *
+     * @param bucket the bucket index
+     * @return the offset into the permutation
+     */
+    public int end(int bucket) {
+        return offsets[bucket + 1];
+    }
+
+    /**
+     * The positions of the values in the grouped array, ordered by bucket, and within a bucket by position.
+     * <p/>
+     * The returned array is not copied, and must not be modified.
+     *
+     * @return the positions of the values
+     */
+    public int[] permutation() {
+        return permutation;
+    }
+
+    /**
+     * Copies the given values into bucket order, for example another column of the grouped rows.
+     *
+     * @param values values of the same length as the grouped array
+     * @return a new array of the values in bucket order
+     */
+    public long[] reorder(long[] values) {
+        if (values.length != permutation.length) {
+            throw new IllegalArgumentException("values length must be: " + permutation.length + ", got: " + values.length);
+        }
+
+        long[] result = new long[values.length];
+
+        for (int i = 0; i < permutation.length; i++) {
+            result[i] = values[permutation[i]];
+        }
+
+        return result;
+    }
+
+    private static long[] distinctOrdinals(long[] epochMillis, long lotMillis) {
+        long[] ordinals = new long[epochMillis.length];
+
+        for (int i = 0; i < epochMillis.length; i++) {
+            ordinals[i] = Math.floorDiv(epochMillis[i], lotMillis);
+        }
+
+        Arrays.sort(ordinals);
+
+        int distinct = 0;
+
+        for (int i = 0; i < ordinals.length; i++) {
+            if (i == 0 || ordinals[i] != ordinals[distinct - 1]) {
+                ordinals[distinct++] = ordinals[i];
+            }
+        }
+
+        return Arrays.copyOf(ordinals, distinct);
+    }
+
+    private static int from(int chunk, int chunks, int length) {
+        return (int) ((long) length * chunk / chunks);
+    }
+
+    private static void run(ForkJoinPool pool, int chunks, IntConsumer body) {
+        if (pool == null || chunks == 1) {
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                body.accept(chunk);
+            }
+
+            return;
+        }
+
+        pool.invoke(new Chunks(body, 0, chunks));
+    }
+
+    private static long min(long[] values) {
+        long min = Long.MAX_VALUE;
+
+        for (long value : values) {
+            min = Math.min(min, value);
+        }
+
+        return min;
+    }
+
+    private static long max(long[] values) {
+        long max = Long.MIN_VALUE;
+
+        for (long value : values) {
+            max = Math.max(max, value);
+        }
+
+        return max;
+    }
+
+    private static final class Chunks extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final IntConsumer body;
+        private final int from;
+        private final int to;
+
+        Chunks(IntConsumer body, int from, int to) {
+            this.body = body;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                body.accept(from);
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+
+            invokeAll(new Chunks(body, from, mid), new Chunks(body, mid, to));
+        }
+    }
+}
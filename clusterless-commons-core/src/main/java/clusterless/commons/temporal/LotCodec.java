@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2023 Chris K Wensel <chris@wensel.net>. All Rights Reserved.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package clusterless.commons.temporal;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalUnit;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * LotCodec formats and parses lot strings, for example {@code 20230206PT15M095}, without the {@link java.time}
+ * formatting machinery.
+ * <p/>
+ * A lot string is the UTC date as {@code yyyyMMdd}, the duration of the lot unit, and the zero padded index of the lot
+ * within the day, three digits unless the unit has more than a thousand lots a day. The results are identical to the
+ * formatters in {@link IntervalDateTimeFormatter}, parsing follows their smart resolver, a day of month beyond the end
+ * of the month resolves to the last day of the month.
+ *
+ * <pre>
+ *   LotCodec codec = LotCodec.of(IntervalUnit.FOURTHS);
+ *   String lot = codec.format(1675727526500L); // "20230206PT15M095"
+ *   long start = codec.parseEpochMilli(lot); // 1675727100000L
+ * </pre>
+ */
+public final class LotCodec {
+    private static final int DATE_WIDTH = 8;
+
+    private static final Map<TemporalUnit, LotCodec> codecs = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the LotCodec for the given unit.
+     *
+     * @param unit the lot unit
+     * @return a LotCodec instance
+     * @throws IllegalArgumentException if the given unit does not have an associated formatter
+     */
+    public static LotCodec of(TemporalUnit unit) {
+        Objects.requireNonNull(unit, "unit");
+
+        return codecs.computeIfAbsent(unit, LotCodec::new);
+    }
+
+    private final TemporalUnit unit;
+    private final long lotMillis;
+    private final int lotsPerDay;
+    private final int indexWidth;
+    private final char[] literal;
+    private final int length;
+
+    private LotCodec(TemporalUnit unit) {
+        IntervalUnits.verifyHasFormatter(unit);
+
+        this.unit = unit;
+        this.lotMillis = unit.getDuration().toMillis();
+        this.lotsPerDay = (int) (EpochDays.MILLIS_PER_DAY / lotMillis);
+        this.indexWidth = IntervalUnits.indexWidth(unit);
+        this.literal = unit.getDuration().toString().toCharArray();
+        this.length = DATE_WIDTH + literal.length + indexWidth;
+    }
+
+    /**
+     * The lot unit of this codec.
+     *
+     * @return the lot unit
+     */
+    public TemporalUnit unit() {
+        return unit;
+    }
+
+    /**
+     * The length of a lot string.
+     *
+     * @return the number of chars in a lot string
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * The duration of a lot in milliseconds.
+     *
+     * @return the duration of a lot in milliseconds
+     */
+    public long lotMillis() {
+        return lotMillis;
+    }
+
+    /**
+     * The number of lots in a day.
+     *
+     * @return the number of lots in a day
+     */
+    public int lotsPerDay() {
+        return lotsPerDay;
+    }
+
+    /**
+     * Truncates the given epoch milliseconds to the start of its lot.
+     *
+     * @param epochMilli milliseconds since the epoch
+     * @return the start of the lot in milliseconds since the epoch
+     */
+    public long truncate(long epochMilli) {
+        return Math.floorDiv(epochMilli, lotMillis) * lotMillis;
+    }
+
+    /**
+     * Returns the index of the lot within its day.
+     *
+     * @param epochMilli milliseconds since the epoch
+     * @return the index of the lot within the day
+     */
+    public int index(long epochMilli) {
+        return Math.floorMod(Math.floorDiv(epochMilli, lotMillis), lotsPerDay);
+    }
+
+    /**
+     * Formats the lot containing the given epoch milliseconds.
+     *
+     * @param epochMilli milliseconds since the epoch
+     * @return the lot string
+     * @throws java.time.DateTimeException if the year is outside 0 through 9999
+     */
+    @NotNull
+    public String format(long epochMilli) {
+        char[] buffer = new char[length];
+
+        format(epochMilli, buffer, 0);
+
+        return new String(buffer);
+    }
+
+    /**
+     * Formats the lot containing the given epoch milliseconds into the given buffer.
+     * <p/>
+     * The buffer must have {@link #length()} chars available from the offset.
+     *
+     * @param epochMilli milliseconds since the epoch
+     * @param buffer     the buffer to write into
+     * @param offset     the offset to begin writing at
+     * @return the offset following the lot string
+     * @throws java.time.DateTimeException if the year is outside 0 through 9999
+     */
+    public int format(long epochMilli, char[] buffer, int offset) {
+        long epochDay = Math.floorDiv(epochMilli, EpochDays.MILLIS_PER_DAY);
+
+        offset = EpochDays.writeDigits(EpochDays.toYearMonthDay(epochDay), DATE_WIDTH, buffer, offset);
+
+        System.arraycopy(literal, 0, buffer, offset, literal.length);
+
+        return EpochDays.writeDigits(index(epochMilli), indexWidth, buffer, offset + literal.length);
+    }
+
+    /**
+     * Formats the lot containing the given epoch milliseconds, appending it to the given builder.
+     *
+     * @param epochMilli milliseconds since the epoch
+     * @param builder    the builder to append to
+     * @return the given builder
+     * @throws java.time.DateTimeException if the year is outside 0 through 9999
+     */
+    public StringBuilder format(long epochMilli, StringBuilder builder) {
+        long epochDay = Math.floorDiv(epochMilli, EpochDays.MILLIS_PER_DAY);
+
+        EpochDays.appendDigits(EpochDays.toYearMonthDay(epochDay), DATE_WIDTH, builder);
+
+        builder.append(literal);
+
+        return EpochDays.appendDigits(index(epochMilli), indexWidth, builder);
+    }
+
+    /**
+     * Parses the given lot string into the start of the lot.
+     *
+     * @param lot the lot string
+     * @return the start of the lot in milliseconds since the epoch
+     * @throws DateTimeParseException if the lot string is not valid for this unit
+     */
+    public long parseEpochMilli(CharSequence lot) {
+        Objects.requireNonNull(lot, "lot");
+
+        verifyLayout(lot);
+
+        int year = parseDigits(lot, 0, 4);
+        int month = parseDigits(lot, 4, 2);
+        int day = parseDigits(lot, 6, 2);
+        int index = parseLotIndex(lot);
+
+        if (month < 1 || month > 12) {
+            throw new DateTimeParseException("invalid month of year: " + month, lot, 4);
+        }
+
+        if (day < 1 || day > 31) {
+            throw new DateTimeParseException("invalid day of month: " + day, lot, 6);
+        }
+
+        day = Math.min(day, EpochDays.lengthOfMonth(year, month));
+
+        long epochDay = EpochDays.toEpochDay(year, month, day);
+
+        return epochDay * EpochDays.MILLIS_PER_DAY + index * lotMillis;
+    }
+
+    /**
+     * Parses the index of the lot within its day from the given lot string.
+     *
+     * @param lot the lot string
+     * @return the index of the lot within the day
+     * @throws DateTimeParseException if the lot string is not valid for this unit
+     */
+    public int parseIndex(CharSequence lot) {
+        Objects.requireNonNull(lot, "lot");
+
+        verifyLayout(lot);
+
+        return parseLotIndex(lot);
+    }
+
+    private int parseLotIndex(CharSequence lot) {
+        int offset = DATE_WIDTH + literal.length;
+        int index = parseDigits(lot, offset, indexWidth);
+
+        if (index >= lotsPerDay) {
+            throw new DateTimeParseException("invalid lot index: " + index + ", lots per day: " + lotsPerDay, lot, offset);
+        }
+
+        return index;
+    }
+
+    private void verifyLayout(CharSequence lot) {
+        if (lot.length() != length) {
+            throw new DateTimeParseException("invalid lot length: " + lot.length() + ", expected: " + length, lot, Math.min(lot.length(), length));
+        }
+
+        for (int i = 0; i < literal.length; i++) {
+            if (lot.charAt(DATE_WIDTH + i) != literal[i]) {
+                throw new DateTimeParseException("invalid lot duration, expected: " + new String(literal), lot, DATE_WIDTH + i);
+            }
+        }
+    }
+
+    private static int parseDigits(CharSequence lot, int offset, int width) {
+        int value = 0;
+
+        for (int i = offset; i < offset + width; i++) {
+            int digit = lot.charAt(i) - '0';
+
+            if (digit < 0 || digit > 9) {
+                throw new DateTimeParseException("invalid digit at: " + i, lot, i);
+            }
+
+            value = value * 10 + digit;
+        }
+
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "LotCodec{" +
+                "unit=" + unit +
+                '}';
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2023 Chris K Wensel <chris@wensel.net>. All Rights Reserved.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package clusterless.commons.temporal;
+
+import java.time.temporal.TemporalUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LotCounters accumulates a fixed number of metrics per lot, for example records, bytes, and late arrivals,
+ * from many threads, retaining only the most recent lots.
+ * <p/>
+ * The lots are held in a ring, the slot of a timestamp is its lot ordinal modulo the number of retained lots, and
+ * each slot holds a {@link LongAdder} per metric. A slot is recycled for a newer lot with a single compare and set,
+ * updates to lots older than the retained lots are rejected.
+ *
+ * <pre>
+ *   LotCounters counters = new LotCounters(IntervalUnit.TWELFTHS, 288, 2);
+ *   counters.add(epochMilli, RECORDS, 1);
+ *   counters.add(epochMilli, BYTES, length);
+ *   counters.closed().forEach(snapshot -> publish(snapshot.lot(), snapshot.get(RECORDS)));
+ * </pre>
+ * <p/>
+ * A {@link Snapshot} never mixes the values of two lots sharing a slot, but late updates to a closed lot
+ * are still counted, so a later snapshot of the same lot may hold larger values.
+ */
+public final class LotCounters {
+    private final LotCodec codec;
+    private final long lotMillis;
+    private final int retainedLots;
+    private final int metrics;
+    private final AtomicReferenceArray<Slot> ring;
+    private final AtomicLong newest = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * Creates a ring retaining the given number of lots.
+     *
+     * @param unit         the lot unit
+     * @param retainedLots the number of most recent lots to retain
+     * @param metrics      the number of metrics counted per lot
+     */
+    public LotCounters(TemporalUnit unit, int retainedLots, int metrics) {
+        if (retainedLots < 1) {
+            throw new IllegalArgumentException("retained lots must be positive, got: " + retainedLots);
+        }
+
+        if (metrics < 1) {
+            throw new IllegalArgumentException("metrics must be positive, got: " + metrics);
+        }
+
+        this.codec = LotCodec.of(unit);
+        this.lotMillis = codec.lotMillis();
+        this.retainedLots = retainedLots;
+        this.metrics = metrics;
+        this.ring = new AtomicReferenceArray<>(retainedLots);
+    }
+
+    /**
+     * The lot unit of these counters.
+     *
+     * @return the lot unit
+     */
+    public TemporalUnit unit() {
+        return codec.unit();
+    }
+
+    /**
+     * The number of most recent lots retained.
+     *
+     * @return the number of retained lots
+     */
+    public int retainedLots() {
+        return retainedLots;
+    }
+
+    /**
+     * The number of metrics counted per lot.
+     *
+     * @return the number of metrics
+     */
+    public int metrics() {
+        return metrics;
+    }
+
+    /**
+     * Adds one to the given metric of the lot containing the given epoch milliseconds.
+     *
+     * @param epochMilli milliseconds since the epoch
+     * @param metric     the metric index
+     * @return false if the lot is older than the retained lots and was not counted
+     */
+    public boolean increment(long epochMilli, int metric) {
+        return add(epochMilli, metric, 1);
+    }
+
+    /**
+     * Adds the given delta to the given metric of the lot containing the given epoch milliseconds.
+     *
+     * @param epochMilli milliseconds since the epoch
+     * @param metric     the metric index
+     * @param delta      the value to add
+     * @return false if the lot is older than the retained lots, or its slot was recycled for a newer lot while
+     * adding, and the delta was not counted
+     */
+    public boolean add(long epochMilli, int metric, long delta) {
+        long ordinal = Math.floorDiv(epochMilli, lotMillis);
+        int index = index(ordinal);
+        Slot slot = slot(index, ordinal);
+
+        if (slot == null) {
+            return false;
+        }
+
+        slot.adders[metric].add(delta);
+
+        // the slot was recycled for a newer lot while adding, the delta was lost with it
+        return ring.get(index) == slot;
+    }
+
+    /**
+     * Returns the values of the lot containing the given epoch milliseconds.
+     *
+     * @param epochMilli milliseconds since the epoch
+     * @return a Snapshot, or null if the lot has no values or is not retained
+     */
+    public Snapshot snapshot(long epochMilli) {
+        long ordinal = Math.floorDiv(epochMilli, lotMillis);
+        int index = index(ordinal);
+        Slot slot = ring.get(index);
+
+        if (slot == null || slot.ordinal != ordinal) {
+            return null;
+        }
+
+        return snapshot(index, slot);
+    }
+
+    /**
+     * Returns the values of every retained lot older than the newest lot counted, oldest first.
+     *
+     * @return a List of Snapshot instances
+     */
+    public List<Snapshot> closed() {
+        List<Snapshot> snapshots = new ArrayList<>(retainedLots);
+        long head = newest.get();
+
+        for (int i = 0; i < retainedLots; i++) {
+            Slot slot = ring.get(i);
+
+            if (slot == null || slot.ordinal >= head) {
+                continue;
+            }
+
+            Snapshot snapshot = snapshot(i, slot);
+
+            if (snapshot != null) {
+                snapshots.add(snapshot);
+            }
+        }
+
+        snapshots.sort((lhs, rhs) -> Long.compare(lhs.lot.startMilli(), rhs.lot.startMilli()));
+
+        return snapshots;
+    }
+
+    private Snapshot snapshot(int index, Slot slot) {
+        long[] values = new long[metrics];
+
+        for (int i = 0; i < metrics; i++) {
+            values[i] = slot.adders[i].sum();
+        }
+
+        // the slot was recycled while summing, the values may belong to either lot
+        if (ring.get(index) != slot) {
+            return null;
+        }
+
+        return new Snapshot(new Lot(codec, slot.ordinal * lotMillis), values);
+    }
+
+    private Slot slot(int index, long ordinal) {
+        long head = newest.get();
+
+        // older than the retained lots, even if its slot was not yet recycled
+        if (head != Long.MIN_VALUE && ordinal <= head - retainedLots) {
+            return null;
+        }
+
+        while (true) {
+            Slot current = ring.get(index);
+
+            if (current != null && current.ordinal == ordinal) {
+                return current;
+            }
+
+            if (current != null && current.ordinal > ordinal) {
+                return null;
+            }
+
+            Slot next = new Slot(ordinal, metrics);
+
+            if (ring.compareAndSet(index, current, next)) {
+                newest.accumulateAndGet(ordinal, Math::max);
+                return next;
+            }
+        }
+    }
+
+    private int index(long ordinal) {
+        return (int) Math.floorMod(ordinal, (long) retainedLots);
+    }
+
+    /**
+     * Snapshot holds the values of every metric of a single lot.
+     */
+    public static final class Snapshot {
+        private final Lot lot;
+        private final long[] values;
+
+        Snapshot(Lot lot, long[] values) {
+            this.lot = lot;
+            this.values = values;
+        }
+
+        /**
+         * The lot of these values.
+         *
+         * @return the Lot
+         */
+        public Lot lot() {
+            return lot;
+        }
+
+        /**
+         * The value of the given metric.
+         *
+         * @param metric the metric index
+         * @return the value
+         */
+        public long get(int metric) {
+            return values[metric];
+        }
+
+        /**
+         * The values of every metric, indexed by metric.
+         *
+         * @return a copy of the values
+         */
+        public long[] values() {
+            return values.clone();
+        }
+
+        @Override
+        public String toString() {
+            return "Snapshot{" +
+                    "lot=" + lot +
+                    ", values=" + Arrays.toString(values) +
+                    '}';
+        }
+    }
+
+    private static final class Slot {
+        private final long ordinal;
+        private final LongAdder[] adders;
+
+        Slot(long ordinal, int metrics) {
+            this.ordinal = ordinal;
+            this.adders = new LongAdder[metrics];
+
+            for (int i = 0; i < metrics; i++) {
+                adders[i] = new LongAdder();
+            }
+        }
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2023 Chris K Wensel <chris@wensel.net>. All Rights Reserved.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package clusterless.commons.temporal;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalUnit;
+import java.util.Objects;
+
+/**
+ * LotIds packs a lot into a single {@code long}, so lots can be held in primitive arrays and maps, compared, and
+ * stepped without allocating.
+ * <p/>
+ * A lot id is the epoch minute the lot starts at shifted left by 11 bits, or'd with the duration of the lot unit in
+ * minutes. Ids of the same unit sort chronologically, and ids of different units sort by start then unit duration.
+ *
+ * <pre>
+ *   long id = LotIds.parse("20230206PT15M095");
+ *   String next = LotIds.format(LotIds.next(id)); // "20230207PT15M000"
+ * </pre>
+ */
+public final class LotIds {
+    private static final int UNIT_BITS = 11;
+    private static final long UNIT_MASK = (1L << UNIT_BITS) - 1;
+    private static final long MILLIS_PER_MINUTE = 60_000;
+
+    private LotIds() {
+    }
+
+    /**
+     * Returns the id of the lot of the given unit containing the given epoch milliseconds.
+     *
+     * @param unit       the lot unit
+     * @param epochMilli milliseconds since the epoch
+     * @return the lot id
+     * @throws IllegalArgumentException if the given unit does not have an associated formatter
+     */
+    public static long of(TemporalUnit unit, long epochMilli) {
+        LotCodec codec = LotCodec.of(unit);
+        long unitMinutes = codec.lotMillis() / MILLIS_PER_MINUTE;
+        long startMinute = codec.truncate(epochMilli) / MILLIS_PER_MINUTE;
+
+        return startMinute << UNIT_BITS | unitMinutes;
+    }
+
+    /**
+     * Returns the id of the given {@link Lot}.
+     *
+     * @param lot the lot
+     * @return the lot id
+     */
+    public static long of(Lot lot) {
+        return of(lot.unit(), lot.startMilli());
+    }
+
+    /**
+     * Returns the {@link Lot} of the given id.
+     *
+     * @param id the lot id
+     * @return a Lot instance
+     */
+    public static Lot toLot(long id) {
+        return new Lot(LotCodec.of(unit(id)), startMilli(id));
+    }
+
+    /**
+     * The duration of the lot unit in minutes.
+     *
+     * @param id the lot id
+     * @return the duration of the lot unit in minutes
+     */
+    public static int unitMinutes(long id) {
+        return (int) (id & UNIT_MASK);
+    }
+
+    /**
+     * The lot unit of the given id.
+     *
+     * @param id the lot id
+     * @return the lot unit
+     * @throws IllegalArgumentException if no lot unit has the duration of the given id
+     */
+    public static TemporalUnit unit(long id) {
+        return IntervalUnits.of(Duration.ofMinutes(unitMinutes(id)));
+    }
+
+    /**
+     * The start of the lot, inclusive.
+     *
+     * @param id the lot id
+     * @return the start in milliseconds since the epoch
+     */
+    public static long startMilli(long id) {
+        return (id >> UNIT_BITS) * MILLIS_PER_MINUTE;
+    }
+
+    /**
+     * The end of the lot, exclusive.
+     *
+     * @param id the lot id
+     * @return the end in milliseconds since the epoch
+     */
+    public static long endMilli(long id) {
+        return ((id >> UNIT_BITS) + unitMinutes(id)) * MILLIS_PER_MINUTE;
+    }
+
+    /**
+     * The index of the lot within its day.
+     *
+     * @param id the lot id
+     * @return the index of the lot within the day
+     */
+    public static int index(long id) {
+        return Math.floorMod(id >> UNIT_BITS, EpochDays.MINUTES_PER_DAY) / unitMinutes(id);
+    }
+
+    /**
+     * Returns the id of the lot following the given lot.
+     *
+     * @param id the lot id
+     * @return the id of the next lot
+     */
+    public static long next(long id) {
+        return offset(id, 1);
+    }
+
+    /**
+     * Returns the id of the lot preceding the given lot.
+     *
+     * @param id the lot id
+     * @return the id of the previous lot
+     */
+    public static long previous(long id) {
+        return offset(id, -1);
+    }
+
+    /**
+     * Returns the id of the lot the given number of lots from the given lot.
+     *
+     * @param id   the lot id
+     * @param lots the number of lots to move, negative values move backwards
+     * @return the id of the offset lot
+     */
+    public static long offset(long id, long lots) {
+        return id + (lots * unitMinutes(id) << UNIT_BITS);
+    }
+
+    /**
+     * Returns the number of lots from the first lot to the second, negative if the second precedes the first.
+     *
+     * @param fromId the first lot id
+     * @param toId   the second lot id
+     * @return the number of lots between the ids
+     * @throws IllegalArgumentException if the ids are of different lot units
+     */
+    public static long distance(long fromId, long toId) {
+        int unitMinutes = unitMinutes(fromId);
+
+        if (unitMinutes != unitMinutes(toId)) {
+            throw new IllegalArgumentException("lot ids have different units, minutes: " + unitMinutes + " and " + unitMinutes(toId));
+        }
+
+        return ((toId >> UNIT_BITS) - (fromId >> UNIT_BITS)) / unitMinutes;
+    }
+
+    /**
+     * Formats the given id as a lot string, identical to the lot string of {@link IntervalBuilder}.
+     *
+     * @param id the lot id
+     * @return the lot string
+     */
+    @NotNull
+    public static String format(long id) {
+        return LotCodec.of(unit(id)).format(startMilli(id));
+    }
+
+    /**
+     * Formats the given id as a lot string, appending it to the given builder.
+     *
+     * @param id      the lot id
+     * @param builder the builder to append to
+     * @return the given builder
+     */
+    public static StringBuilder format(long id, StringBuilder builder) {
+        return LotCodec.of(unit(id)).format(startMilli(id), builder);
+    }
+
+    /**
+     * Parses the given lot string into a lot id, the lot unit is found from the duration in the lot string.
+     *
+     * @param lot the lot string
+     * @return the lot id
+     * @throws DateTimeParseException if the lot string is not valid
+     */
+    public static long parse(CharSequence lot) {
+        return parse(findUnit(lot), lot);
+    }
+
+    /**
+     * Parses the given lot string of the given unit into a lot id.
+     *
+     * @param unit the lot unit
+     * @param lot  the lot string
+     * @return the lot id
+     * @throws DateTimeParseException if the lot string is not valid for the unit
+     */
+    public static long parse(TemporalUnit unit, CharSequence lot) {
+        return of(unit, LotCodec.of(unit).parseEpochMilli(lot));
+    }
+
+    private static TemporalUnit findUnit(CharSequence lot) {
+        Objects.requireNonNull(lot, "lot");
+
+        // the duration follows the date and ends with the last non digit
+        int end = lot.length();
+
+        while (end > 0 && lot.charAt(end - 1) >= '0' && lot.charAt(end - 1) <= '9') {
+            end--;
+        }
+
+        if (end > 8) {
+            try {
+                return IntervalUnits.of(Duration.parse(lot.subSequence(8, end)));
+            } catch (DateTimeParseException | IllegalArgumentException e) {
+                // fall through
+            }
+        }
+
+        throw new DateTimeParseException("no lot unit found in: " + lot, lot, 0);
+    }
+}
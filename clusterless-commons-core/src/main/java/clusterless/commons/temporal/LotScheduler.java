@@ -0,0 +1,380 @@
+/*
+ * Copyright (c) 2023 Chris K Wensel <chris@wensel.net>. All Rights Reserved.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package clusterless.commons.temporal;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.temporal.TemporalUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * LotScheduler calls back when a lot closes, at the end of the lot plus a grace delay, so consumers
+ * do not need to align their own timers to the lot boundaries.
+ * <p/>
+ * Callbacks are either registered for every lot, see {@link #every(Consumer)}, or for a single lot, see
+ * {@link #schedule(long, Consumer)}. Single lot callbacks are held in a hashed timer wheel keyed by the lot
+ * ordinal, and all callbacks of the same lot share one entry, so any number of registrations on a boundary
+ * cost a single wakeup.
+ * <p/>
+ * The scheduler is driven by {@link #runDue()}, which fires every lot closed since the previous call according
+ * to the given {@link Clock}. Calling {@link #start(ScheduledExecutorService)} drives it from an executor, one
+ * task per boundary, otherwise tests may advance a fixed clock and call {@link #runDue()} directly.
+ *
+ * <pre>
+ *   LotScheduler scheduler = new LotScheduler(IntervalUnit.FOURTHS, Duration.ofSeconds(30));
+ *   scheduler.every(lot -> close(lot.format()));
+ *   scheduler.start(executor);
+ * </pre>
+ */
+public final class LotScheduler implements AutoCloseable {
+    private static final int WHEEL_SIZE = 64;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private final LotCodec codec;
+    private final long lotMillis;
+    private final long graceMillis;
+    private final Clock clock;
+    private final Boundary[] wheel = new Boundary[WHEEL_SIZE];
+    private final List<Consumer<Lot>> listeners = new CopyOnWriteArrayList<>();
+
+    private long cursor; // the ordinal of the next lot to fire
+    private int pending;
+
+    private ScheduledExecutorService executor;
+    private ScheduledFuture<?> wakeup;
+    private long wakeupMilli = Long.MAX_VALUE;
+
+    public LotScheduler(TemporalUnit unit, Duration grace) {
+        this(unit, grace, Clock.systemUTC());
+    }
+
+    public LotScheduler(TemporalUnit unit, Duration grace, Clock clock) {
+        Objects.requireNonNull(grace, "grace");
+        Objects.requireNonNull(clock, "clock");
+
+        if (grace.isNegative()) {
+            throw new IllegalArgumentException("grace may not be negative, got: " + grace);
+        }
+
+        this.codec = LotCodec.of(unit);
+        this.lotMillis = codec.lotMillis();
+        this.graceMillis = grace.toMillis();
+        this.clock = clock;
+        this.cursor = Math.floorDiv(clock.millis() - graceMillis, lotMillis);
+    }
+
+    /**
+     * The lot unit of this scheduler.
+     *
+     * @return the lot unit
+     */
+    public TemporalUnit unit() {
+        return codec.unit();
+    }
+
+    /**
+     * Registers a callback fired as every lot closes.
+     *
+     * @param callback the callback, given the closed lot
+     */
+    public void every(Consumer<Lot> callback) {
+        Objects.requireNonNull(callback, "callback");
+
+        listeners.add(callback);
+
+        synchronized (this) {
+            rescheduleIfEarlier(fireMilli(cursor));
+        }
+    }
+
+    /**
+     * Removes a callback registered with {@link #every(Consumer)}.
+     *
+     * @param callback the callback to remove
+     * @return true if the callback was registered
+     */
+    public boolean remove(Consumer<Lot> callback) {
+        return listeners.remove(callback);
+    }
+
+    /**
+     * Registers a callback fired once, when the lot containing the given epoch milliseconds closes.
+     *
+     * @param epochMilli milliseconds since the epoch
+     * @param callback   the callback, given the closed lot
+     * @throws IllegalArgumentException if the lot has already fired
+     */
+    public synchronized void schedule(long epochMilli, Consumer<Lot> callback) {
+        Objects.requireNonNull(callback, "callback");
+
+        long ordinal = Math.floorDiv(epochMilli, lotMillis);
+
+        if (ordinal < cursor) {
+            throw new IllegalArgumentException("lot has already fired: " + codec.format(epochMilli));
+        }
+
+        int slot = (int) (ordinal & WHEEL_MASK);
+        Boundary boundary = wheel[slot];
+
+        while (boundary != null && boundary.ordinal != ordinal) {
+            boundary = boundary.next;
+        }
+
+        if (boundary == null) {
+            boundary = new Boundary(ordinal, wheel[slot]);
+            wheel[slot] = boundary;
+            pending++;
+        }
+
+        boundary.callbacks.add(callback);
+
+        rescheduleIfEarlier(fireMilli(ordinal));
+    }
+
+    /**
+     * Registers a callback fired once, when the given lot closes.
+     *
+     * @param lot      the lot, must be of the same unit
+     * @param callback the callback, given the closed lot
+     * @throws IllegalArgumentException if the lot has already fired
+     */
+    public void schedule(Lot lot, Consumer<Lot> callback) {
+        if (!codec.unit().equals(lot.unit())) {
+            throw new IllegalArgumentException("lot unit must be: " + codec.unit() + ", got: " + lot.unit());
+        }
+
+        schedule(lot.startMilli(), callback);
+    }
+
+    /**
+     * The time the next callback is due, or {@link Long#MAX_VALUE} if no callbacks are registered.
+     *
+     * @return the time in milliseconds since the epoch
+     */
+    public synchronized long nextFireMilli() {
+        if (!listeners.isEmpty()) {
+            return fireMilli(cursor);
+        }
+
+        long earliest = Long.MAX_VALUE;
+
+        for (Boundary head : wheel) {
+            for (Boundary boundary = head; boundary != null; boundary = boundary.next) {
+                earliest = Math.min(earliest, boundary.ordinal);
+            }
+        }
+
+        return earliest == Long.MAX_VALUE ? Long.MAX_VALUE : fireMilli(earliest);
+    }
+
+    /**
+     * Fires the callbacks of every lot that closed, plus the grace delay, since the previous call, in lot order.
+     * <p/>
+     * Callbacks are called on the calling thread. If a callback throws, the remaining callbacks are still called
+     * and the first exception is rethrown.
+     *
+     * @return the number of lots fired
+     */
+    public int runDue() {
+        long due = Math.floorDiv(clock.millis() - graceMillis, lotMillis);
+        List<Boundary> fired = new ArrayList<>();
+        long from;
+
+        synchronized (this) {
+            from = cursor;
+
+            if (due <= from) {
+                return 0;
+            }
+
+            collect(from, due, fired);
+            cursor = due;
+        }
+
+        RuntimeException failure = null;
+        int count = 0;
+
+        // every listener fires for each closed lot, so walk the ordinals, otherwise only the collected boundaries
+        if (!listeners.isEmpty()) {
+            int next = 0;
+
+            for (long ordinal = from; ordinal < due; ordinal++) {
+                Lot lot = new Lot(codec, ordinal * lotMillis);
+
+                failure = fire(listeners, lot, failure);
+
+                if (next < fired.size() && fired.get(next).ordinal == ordinal) {
+                    failure = fire(fired.get(next++).callbacks, lot, failure);
+                }
+
+                count++;
+            }
+        } else {
+            for (Boundary boundary : fired) {
+                failure = fire(boundary.callbacks, new Lot(codec, boundary.ordinal * lotMillis), failure);
+                count++;
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+
+        return count;
+    }
+
+    /**
+     * Drives this scheduler from the given executor, scheduling one task for each upcoming boundary.
+     *
+     * @param executor the executor to schedule on
+     */
+    public synchronized void start(ScheduledExecutorService executor) {
+        Objects.requireNonNull(executor, "executor");
+
+        if (this.executor != null) {
+            throw new IllegalStateException("scheduler already started");
+        }
+
+        this.executor = executor;
+
+        reschedule();
+    }
+
+    /**
+     * Stops scheduling tasks on the executor given to {@link #start(ScheduledExecutorService)}, registered
+     * callbacks are retained.
+     */
+    @Override
+    public synchronized void close() {
+        if (wakeup != null) {
+            wakeup.cancel(false);
+        }
+
+        executor = null;
+        wakeup = null;
+        wakeupMilli = Long.MAX_VALUE;
+    }
+
+    private void collect(long from, long due, List<Boundary> fired) {
+        if (pending == 0) {
+            return;
+        }
+
+        // only sweep each slot once when more lots than slots are due
+        if (due - from >= WHEEL_SIZE) {
+            for (int slot = 0; slot < WHEEL_SIZE; slot++) {
+                collectSlot(slot, due, fired);
+            }
+
+            fired.sort((lhs, rhs) -> Long.compare(lhs.ordinal, rhs.ordinal));
+
+            return;
+        }
+
+        for (long ordinal = from; ordinal < due; ordinal++) {
+            collectSlot((int) (ordinal & WHEEL_MASK), ordinal + 1, fired);
+        }
+    }
+
+    private void collectSlot(int slot, long due, List<Boundary> fired) {
+        Boundary previous = null;
+
+        for (Boundary boundary = wheel[slot]; boundary != null; boundary = boundary.next) {
+            if (boundary.ordinal >= due) {
+                previous = boundary;
+                continue;
+            }
+
+            if (previous == null) {
+                wheel[slot] = boundary.next;
+            } else {
+                previous.next = boundary.next;
+            }
+
+            pending--;
+            fired.add(boundary);
+        }
+    }
+
+    private static RuntimeException fire(List<Consumer<Lot>> callbacks, Lot lot, RuntimeException failure) {
+        for (Consumer<Lot> callback : callbacks) {
+            try {
+                callback.accept(lot);
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+
+        return failure;
+    }
+
+    private long fireMilli(long ordinal) {
+        return (ordinal + 1) * lotMillis + graceMillis;
+    }
+
+    private void tick() {
+        try {
+            runDue();
+        } finally {
+            synchronized (this) {
+                wakeup = null;
+                wakeupMilli = Long.MAX_VALUE;
+
+                reschedule();
+            }
+        }
+    }
+
+    private void reschedule() {
+        if (executor == null) {
+            return;
+        }
+
+        long next = nextFireMilli();
+
+        if (next == Long.MAX_VALUE || next >= wakeupMilli) {
+            return;
+        }
+
+        if (wakeup != null) {
+            wakeup.cancel(false);
+        }
+
+        wakeupMilli = next;
+        wakeup = executor.schedule(this::tick, Math.max(0, next - clock.millis()), TimeUnit.MILLISECONDS);
+    }
+
+    private void rescheduleIfEarlier(long fireMilli) {
+        if (fireMilli < wakeupMilli) {
+            reschedule();
+        }
+    }
+
+    private static final class Boundary {
+        private final long ordinal;
+        private final List<Consumer<Lot>> callbacks = new ArrayList<>(2);
+        private Boundary next;
+
+        Boundary(long ordinal, Boundary next) {
+            this.ordinal = ordinal;
+            this.next = next;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2023 Chris K Wensel <chris@wensel.net>. All Rights Reserved.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package clusterless.commons.temporal;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * LotSpliterator lazily generates the {@link Lot} instances of a contiguous range of lots.
+ * <p/>
+ * Lots are addressed by their ordinal since the epoch, {@code startMilli / lotMillis}, so a range splits in half by
+ * ordinal without generating any lots.
+ */
+final class LotSpliterator implements Spliterator<Lot> {
+    private final LotCodec codec;
+    private long next; // ordinal of the next lot
+    private final long end; // ordinal following the last lot
+
+    LotSpliterator(LotCodec codec, long next, long end) {
+        this.codec = codec;
+        this.next = next;
+        this.end = end;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Lot> action) {
+        if (next >= end) {
+            return false;
+        }
+
+        action.accept(new Lot(codec, next++ * codec.lotMillis()));
+
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Lot> action) {
+        long lotMillis = codec.lotMillis();
+        long last = end;
+
+        for (long ordinal = next; ordinal < last; ordinal++) {
+            action.accept(new Lot(codec, ordinal * lotMillis));
+        }
+
+        next = last;
+    }
+
+    @Override
+    public Spliterator<Lot> trySplit() {
+        long mid = next + (end - next) / 2;
+
+        if (mid <= next) {
+            return null;
+        }
+
+        LotSpliterator prefix = new LotSpliterator(codec, next, mid);
+
+        next = mid;
+
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - next;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | DISTINCT | SORTED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+    }
+
+    @Override
+    public Comparator<? super Lot> getComparator() {
+        return null;
+    }
+}
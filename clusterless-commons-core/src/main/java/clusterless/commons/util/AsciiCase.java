@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2023 Chris K Wensel <chris@wensel.net>. All Rights Reserved.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package clusterless.commons.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * AsciiCase is a single pass case converter used by {@link Strings}.
+ * <p/>
+ * The results are identical to Guava's {@code CaseFormat}: word boundaries in camel case values are the ASCII
+ * characters {@code A-Z}, and only ASCII letters have their case changed, all other characters are copied as is.
+ * <p/>
+ * The String methods return the given instance when no conversion is required.
+ */
+final class AsciiCase {
+    private AsciiCase() {
+    }
+
+    static boolean isUpper(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    static boolean isLower(char c) {
+        return c >= 'a' && c <= 'z';
+    }
+
+    static char toUpper(char c) {
+        return isLower(c) ? (char) (c ^ 0x20) : c;
+    }
+
+    static char toLower(char c) {
+        return isUpper(c) ? (char) (c ^ 0x20) : c;
+    }
+
+    /**
+     * Changes the case of the first character only, as when converting between upper and lower camel case.
+     */
+    static String firstTo(String string, boolean upper) {
+        if (string.isEmpty()) {
+            return string;
+        }
+
+        char first = string.charAt(0);
+        char changed = upper ? toUpper(first) : toLower(first);
+
+        if (first == changed) {
+            return string;
+        }
+
+        return new StringBuilder(string.length())
+                .append(changed)
+                .append(string, 1, string.length())
+                .toString();
+    }
+
+    static <A extends Appendable> A appendFirstTo(A appendable, CharSequence string, boolean upper) {
+        try {
+            if (string.length() == 0) {
+                return appendable;
+            }
+
+            char first = string.charAt(0);
+            appendable.append(upper ? toUpper(first) : toLower(first));
+            appendable.append(string, 1, string.length());
+
+            return appendable;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Converts upper camel case to a delimited format, a delimiter is inserted before every upper case character
+     * but the first.
+     */
+    static String camelToDelimited(String string, char delimiter, boolean upper) {
+        int length = string.length();
+
+        for (int i = 0; i < length; i++) {
+            char c = string.charAt(i);
+
+            if (upper ? isLower(c) || i != 0 && isUpper(c) : isUpper(c)) {
+                StringBuilder builder = new StringBuilder(length + 4);
+                builder.append(string, 0, i);
+                return appendCamelToDelimited(builder, string, i, delimiter, upper).toString();
+            }
+        }
+
+        return string;
+    }
+
+    static <A extends Appendable> A appendCamelToDelimited(A appendable, CharSequence string, int from, char delimiter, boolean upper) {
+        try {
+            int length = string.length();
+
+            for (int i = from; i < length; i++) {
+                char c = string.charAt(i);
+
+                if (i != 0 && isUpper(c)) {
+                    appendable.append(delimiter);
+                }
+
+                appendable.append(upper ? toUpper(c) : toLower(c));
+            }
+
+            return appendable;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Converts a delimited format to upper camel case, the first character of every word is upper cased, the
+     * remaining characters are lower cased, and the delimiters are dropped.
+     */
+    static String delimitedToCamel(String string, char delimiter) {
+        int length = string.length();
+
+        for (int i = 0; i < length; i++) {
+            char c = string.charAt(i);
+
+            if (c == delimiter || (i == 0 ? isLower(c) : isUpper(c))) {
+                StringBuilder builder = new StringBuilder(length);
+                builder.append(string, 0, i);
+                return appendDelimitedToCamel(builder, string, i, i == 0, delimiter).toString();
+            }
+        }
+
+        return string;
+    }
+
+    static <A extends Appendable> A appendDelimitedToCamel(A appendable, CharSequence string, int from, boolean wordStart, char delimiter) {
+        try {
+            int length = string.length();
+
+            for (int i = from; i < length; i++) {
+                char c = string.charAt(i);
+
+                if (c == delimiter) {
+                    wordStart = true;
+                    continue;
+                }
+
+                appendable.append(wordStart ? toUpper(c) : toLower(c));
+                wordStart = false;
+            }
+
+            return appendable;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
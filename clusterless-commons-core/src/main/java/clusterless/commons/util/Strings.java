@@ -9,7 +9,6 @@
 package clusterless.commons.util;
 
 
-import com.google.common.base.CaseFormat;
 import com.google.common.base.Joiner;
 import com.google.common.collect.Maps;
 
@@ -65,7 +64,9 @@ public class Strings {
     }
 
     public static String upperCamel(String string) {
-        return CaseFormat.LOWER_CAMEL.to(CaseFormat.UPPER_CAMEL, string);
+        Objects.requireNonNull(string);
+
+        return AsciiCase.firstTo(string, true);
     }
 
     public static String lowerUnderscoreToCamelCase(String string) {
@@ -73,7 +74,7 @@ public class Strings {
             return null;
         }
 
-        return CaseFormat.LOWER_UNDERSCORE.to(CaseFormat.UPPER_CAMEL, string);
+        return AsciiCase.delimitedToCamel(string, '_');
     }
 
     public static String camelToLowerHyphen(String string) {
@@ -81,7 +82,7 @@ public class Strings {
             return null;
         }
 
-        return CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_HYPHEN, string);
+        return AsciiCase.camelToDelimited(string, '-', false);
     }
 
     public static String camelToLowerCamel(String string) {
@@ -89,7 +90,7 @@ public class Strings {
             return null;
         }
 
-        return CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_CAMEL, string);
+        return AsciiCase.firstTo(string, false);
     }
 
     public static String camelToLowerUnderscore(String string) {
@@ -97,7 +98,7 @@ public class Strings {
             return null;
         }
 
-        return CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, string);
+        return AsciiCase.camelToDelimited(string, '_', false);
     }
 
     public static String camelToUpperUnderscore(String string) {
@@ -105,7 +106,7 @@ public class Strings {
             return null;
         }
 
-        return CaseFormat.UPPER_CAMEL.to(CaseFormat.UPPER_UNDERSCORE, string);
+        return AsciiCase.camelToDelimited(string, '_', true);
     }
 
     public static String lowerHyphenToUpperCamel(String string) {
@@ -113,7 +114,133 @@ public class Strings {
             return null;
         }
 
-        return CaseFormat.LOWER_HYPHEN.to(CaseFormat.UPPER_CAMEL, string);
+        return AsciiCase.delimitedToCamel(string, '-');
+    }
+
+    /**
+     * Appends the lower camel case value as upper camel case, see {@link #upperCamel(String)}.
+     * <p/>
+     * Nothing is appended if the value is null.
+     *
+     * @param appendable the Appendable to append to
+     * @param string     the value to convert
+     * @param <A>        the type of the Appendable
+     * @return the given Appendable
+     */
+    public static <A extends Appendable> A appendUpperCamel(A appendable, CharSequence string) {
+        if (string == null) {
+            return appendable;
+        }
+
+        return AsciiCase.appendFirstTo(appendable, string, true);
+    }
+
+    /**
+     * Appends the lower underscore value as upper camel case, see {@link #lowerUnderscoreToCamelCase(String)}.
+     * <p/>
+     * Nothing is appended if the value is null.
+     *
+     * @param appendable the Appendable to append to
+     * @param string     the value to convert
+     * @param <A>        the type of the Appendable
+     * @return the given Appendable
+     */
+    public static <A extends Appendable> A appendLowerUnderscoreToCamelCase(A appendable, CharSequence string) {
+        if (string == null) {
+            return appendable;
+        }
+
+        return AsciiCase.appendDelimitedToCamel(appendable, string, 0, true, '_');
+    }
+
+    /**
+     * Appends the upper camel case value as lower hyphen, see {@link #camelToLowerHyphen(String)}.
+     * <p/>
+     * Nothing is appended if the value is null.
+     *
+     * @param appendable the Appendable to append to
+     * @param string     the value to convert
+     * @param <A>        the type of the Appendable
+     * @return the given Appendable
+     */
+    public static <A extends Appendable> A appendCamelToLowerHyphen(A appendable, CharSequence string) {
+        if (string == null) {
+            return appendable;
+        }
+
+        return AsciiCase.appendCamelToDelimited(appendable, string, 0, '-', false);
+    }
+
+    /**
+     * Appends the upper camel case value as lower camel case, see {@link #camelToLowerCamel(String)}.
+     * <p/>
+     * Nothing is appended if the value is null.
+     *
+     * @param appendable the Appendable to append to
+     * @param string     the value to convert
+     * @param <A>        the type of the Appendable
+     * @return the given Appendable
+     */
+    public static <A extends Appendable> A appendCamelToLowerCamel(A appendable, CharSequence string) {
+        if (string == null) {
+            return appendable;
+        }
+
+        return AsciiCase.appendFirstTo(appendable, string, false);
+    }
+
+    /**
+     * Appends the upper camel case value as lower underscore, see {@link #camelToLowerUnderscore(String)}.
+     * <p/>
+     * Nothing is appended if the value is null.
+     *
+     * @param appendable the Appendable to append to
+     * @param string     the value to convert
+     * @param <A>        the type of the Appendable
+     * @return the given Appendable
+     */
+    public static <A extends Appendable> A appendCamelToLowerUnderscore(A appendable, CharSequence string) {
+        if (string == null) {
+            return appendable;
+        }
+
+        return AsciiCase.appendCamelToDelimited(appendable, string, 0, '_', false);
+    }
+
+    /**
+     * Appends the upper camel case value as upper underscore, see {@link #camelToUpperUnderscore(String)}.
+     * <p/>
+     * Nothing is appended if the value is null.
+     *
+     * @param appendable the Appendable to append to
+     * @param string     the value to convert
+     * @param <A>        the type of the Appendable
+     * @return the given Appendable
+     */
+    public static <A extends Appendable> A appendCamelToUpperUnderscore(A appendable, CharSequence string) {
+        if (string == null) {
+            return appendable;
+        }
+
+        return AsciiCase.appendCamelToDelimited(appendable, string, 0, '_', true);
+    }
+
+    /**
+     * Appends the lower hyphen value as upper camel case, see {@link #lowerHyphenToUpperCamel(String)}.
+     * <p/>
+     * Nothing is appended if the value is null.
+     *
+     * @param appendable the Appendable to append to
+     * @param string     the value to convert
+     * @param <A>        the type of the Appendable
+     * @return the given Appendable
+     */
+    public static <A extends Appendable> A appendLowerHyphenToUpperCamel(A appendable, CharSequence string) {
+        if (string == null) {
+            return appendable;
+        }
+
+        return AsciiCase.appendDelimitedToCamel(appendable, string, 0, true, '-');
     }
 
     public static String emptyToNull(String string) {
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2023 Chris K Wensel <chris@wensel.net>. All Rights Reserved.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package clusterless.commons.listing;
+
+import clusterless.commons.naming.Partition;
+import clusterless.commons.temporal.IntervalBuilder;
+import clusterless.commons.temporal.IntervalUnit;
+import clusterless.commons.temporal.IntervalUnits;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PrefixPlannerTest {
+    private static final Partition BASE = Partition.of("bucket").withNamed("dataset", "orders");
+
+    private static long milli(String instant) {
+        return Instant.parse(instant).toEpochMilli();
+    }
+
+    @Test
+    public void collapse() {
+        PrefixPlanner planner = new PrefixPlanner(BASE, "lot", IntervalUnit.TWELFTHS);
+
+        assertEquals(List.of("bucket/dataset=orders/lot=202302"), planner.plan(milli("2023-02-01T00:00:00Z"), milli("2023-03-01T00:00:00Z"), 1));
+        assertEquals(List.of("bucket/dataset=orders/lot=2023"), planner.plan(milli("2023-01-01T00:00:00Z"), milli("2024-01-01T00:00:00Z"), 1));
+        assertEquals(List.of("bucket/dataset=orders/lot=20230206PT5M0", "bucket/dataset=orders/lot=20230206PT5M100"), planner.plan(milli("2023-02-06T00:00:00Z"), milli("2023-02-06T08:25:00Z"), 1));
+
+        assertEquals(
+                List.of(
+                        "bucket/dataset=orders/lot=20230131PT5M287",
+                        "bucket/dataset=orders/lot=202302",
+                        "bucket/dataset=orders/lot=20230301",
+                        "bucket/dataset=orders/lot=20230302PT5M000"
+                ),
+                planner.plan(milli("2023-01-31T23:55:00Z"), milli("2023-03-02T00:00:01Z"), 1)
+        );
+
+        assertEquals(List.of(), planner.plan(milli("2023-02-06T00:00:00Z"), milli("2023-02-06T00:00:00Z"), 4));
+    }
+
+    @Test
+    public void parallelism() {
+        PrefixPlanner planner = new PrefixPlanner(Partition.NULL, null, IntervalUnit.TWELFTHS);
+
+        List<String> prefixes = planner.plan(milli("2023-02-01T00:00:00Z"), milli("2023-03-01T00:00:00Z"), 16);
+
+        assertEquals(28, prefixes.size());
+        assertEquals("20230201", prefixes.get(0));
+        assertEquals("20230228", prefixes.get(27));
+
+        assertEquals(List.of("20230206PT5M28"), planner.plan(milli("2023-02-06T23:20:00Z"), milli("2023-02-07T00:00:00Z"), 1));
+        assertEquals(8, planner.plan(milli("2023-02-06T23:20:00Z"), milli("2023-02-07T00:00:00Z"), 100).size());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Fourths", "Twelfths", "PT1M", "PT12H"})
+    public void coverage(String name) {
+        IntervalBuilder builder = new IntervalBuilder(name);
+        PrefixPlanner planner = new PrefixPlanner(BASE, "lot", IntervalUnits.find(name));
+        Random random = new Random(0);
+        long windowStart = milli("2022-12-20T00:00:00Z");
+        long windowEnd = milli("2023-01-10T00:00:00Z");
+
+        for (int i = 0; i < 20; i++) {
+            long start = windowStart + (long) (random.nextDouble() * (windowEnd - windowStart));
+            long end = start + (long) (random.nextDouble() * (windowEnd - start));
+            List<String> prefixes = planner.plan(start, end, 1 + random.nextInt(32));
+
+            long expected = builder.lots(start, end).count();
+            long[] matched = {0};
+
+            builder.lots(windowStart, windowEnd).forEach(lot -> {
+                String key = "bucket/dataset=orders/lot=" + lot.format() + "/part-0.json";
+                long count = prefixes.stream().filter(key::startsWith).count();
+                boolean inRange = lot.endMilli() > start && lot.startMilli() < end;
+
+                assertEquals(inRange ? 1 : 0, count, key);
+                matched[0] += count;
+            });
+
+            assertEquals(expected, matched[0]);
+        }
+    }
+
+    @Test
+    public void localLister() throws IOException {
+        Path root = Files.createTempDirectory("prefix-planner");
+        IntervalBuilder builder = new IntervalBuilder(IntervalUnit.FOURTHS);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            List<String> written = new ArrayList<>();
+
+            builder.lots(milli("2023-02-05T12:00:00Z"), milli("2023-02-08T00:00:00Z")).forEach(lot -> {
+                String key = "dataset=orders/lot=" + lot.format() + "/part-0.json";
+                Path path = root.resolve(key);
+
+                try {
+                    Files.createDirectories(path.getParent());
+                    Files.createFile(path);
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+
+                written.add(key);
+            });
+
+            LocalPrefixLister lister = new LocalPrefixLister(root);
+            PrefixPlanner planner = new PrefixPlanner(Partition.namedOf("dataset", "orders"), "lot", IntervalUnit.FOURTHS);
+            long start = milli("2023-02-06T06:07:00Z");
+            long end = milli("2023-02-07T18:00:00Z");
+
+            List<String> expected = written.stream()
+                    .filter(key -> {
+                        long lotStart = builder.lot(milli("2023-02-05T12:00:00Z")).startMilli() + written.indexOf(key) * 15 * 60 * 1000L;
+                        return lotStart + 15 * 60 * 1000L > start && lotStart < end;
+                    })
+                    .collect(Collectors.toList());
+
+            List<String> listed = lister.listAll(planner.plan(start, end, 8), executor);
+
+            assertEquals(expected, listed);
+            assertEquals(written.size(), lister.list("dataset=orders/lot=2023").size());
+            assertEquals(List.of(), lister.list("missing/lot="));
+        } finally {
+            executor.shutdownNow();
+
+            try (Stream<Path> paths = Files.walk(root)) {
+                paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+}
@@ -149,6 +149,86 @@ public class LabelTest {
         Assertions.assertEquals("lower_one_two_three", with.lowerUnderscore());
     }
 
+    @Test
+    void nested() {
+        Label head = Label.of("lower").with(Label.fixed("LoWeR"));
+        Label tail = Label.of("case", "cs").with("word");
+
+        Label with = head.with(tail);
+        Assertions.assertEquals("LowerLoWeRCaseWord", with.camelCase());
+        Assertions.assertEquals("lowerLoWeRCaseWord", with.lowerCamelCase());
+        Assertions.assertEquals("Lower/LoWeR/Case/Word", with.camelCasePath());
+        Assertions.assertEquals("lower:LoWeR:case:word", with.lowerColonPath());
+        Assertions.assertEquals("lower-LoWeR-case-word", with.lowerHyphen());
+        Assertions.assertEquals("lower/LoWeR/case/word", with.lowerHyphenPath());
+        Assertions.assertEquals("lower_LoWeR_case_word", with.lowerUnderscore());
+        Assertions.assertEquals("LOWER_LoWeR_CASE_WORD", with.upperUnderscore());
+        Assertions.assertEquals("LowerLoWeRCsWord", with.shortCamelCase());
+        Assertions.assertEquals("lower-LoWeR-cs-word", with.shortLowerHyphen());
+        Assertions.assertEquals("lower_LoWeR_cs_word", with.shortLowerUnderscore());
+        Assertions.assertEquals("LowerLoWeRCaseWord", with.becomeLabel().camelCase());
+
+        // rendered values are retained
+        Assertions.assertSame(with.lowerHyphen(), with.lowerHyphen());
+
+        // the source chains are not modified
+        Assertions.assertEquals("lower-LoWeR", head.lowerHyphen());
+        Assertions.assertEquals("case-word", tail.lowerHyphen());
+    }
+
+    @Test
+    void appendTo() {
+        Label label = Label.of("lower").with(Label.fixed("LoWeR")).with(Label.of("case", "cs").with("word"));
+
+        for (Label.Format format : Label.Format.values()) {
+            StringBuilder builder = new StringBuilder("prefix:");
+            label.appendTo(builder, format);
+            Assertions.assertEquals("prefix:" + format.render(label), builder.toString(), format.name());
+
+            // once rendered, the retained value is appended
+            Assertions.assertEquals(format.render(label), label.appendTo(new StringBuilder(), format).toString(), format.name());
+        }
+
+        Assertions.assertEquals("lower-LoWeR-case-word", label.appendTo(new StringBuilder(), Label.Format.LowerHyphen).toString());
+        Assertions.assertEquals("lowerLoWeRCaseWord", label.appendTo(new StringBuilder(), Label.Format.LowerCamelCase).toString());
+        Assertions.assertEquals("", Label.NULL.appendTo(new StringBuilder(), Label.Format.LowerHyphen).toString());
+
+        // leaf Labels are converted as they are appended
+        for (Label leaf : new Label[]{Label.of("lowerCase"), Label.of("lower-case"), Label.of("case", "cs"), Label.fixed("LoWeR"), Value.Lower, Label.NULL}) {
+            for (Label.Format format : Label.Format.values()) {
+                String expected = format.render(leaf);
+                Assertions.assertEquals(expected == null ? "" : expected, leaf.appendTo(new StringBuilder(), format).toString(), format.name());
+            }
+        }
+    }
+
+    @Test
+    void appendToCustomFormat() {
+        Label custom = new Label() {
+            @Override
+            public String camelCase() {
+                return "Foo";
+            }
+
+            @Override
+            public String lowerHyphen() {
+                return "FOO";
+            }
+        };
+
+        Label fixed = new Fixed("x") {
+            @Override
+            public String lowerHyphen() {
+                return "Y";
+            }
+        };
+
+        Assertions.assertEquals("bar-FOO", Label.of("bar").with(custom).lowerHyphen());
+        Assertions.assertEquals("bar-Y", Label.of("bar").with(fixed).lowerHyphen());
+        Assertions.assertEquals("bar-FOO-Y", Label.of("bar").with(custom).with(fixed).appendTo(new StringBuilder(), Label.Format.LowerHyphen).toString());
+        Assertions.assertEquals("BarFoox", Label.of("bar").with(custom).with(fixed).camelCase());
+    }
+
     enum Value implements Label.EnumLabel {
         Lower("Lwr"),
         Case("Cs");
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2023 Chris K Wensel <chris@wensel.net>. All Rights Reserved.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package clusterless.commons.naming;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PartitionPredicateTest {
+    @Test
+    void equality() {
+        PartitionPredicate predicate = PartitionPredicate.compile("year=2023 and month != 1");
+
+        Assertions.assertTrue(predicate.test("dataset=orders/year=2023/month=12/part-0.json"));
+        Assertions.assertTrue(predicate.test("/year=2023/month=02/"));
+        Assertions.assertFalse(predicate.test("year=2023/month=01"));
+        Assertions.assertFalse(predicate.test("year=2022/month=12"));
+        Assertions.assertFalse(predicate.test("year=2023"));
+        Assertions.assertFalse(predicate.test("years=2023/month=12"));
+        Assertions.assertFalse(predicate.test(""));
+
+        Assertions.assertTrue(predicate.test(Partition.namedOf("year", "2023").withNamed("month", "11")));
+        Assertions.assertFalse(predicate.test(Partition.NULL));
+    }
+
+    @Test
+    void sets() {
+        PartitionPredicate predicate = PartitionPredicate.compile("year=2023 AND month IN (11, 12, '3') and region in (us-east-1,'us west')");
+
+        Assertions.assertTrue(predicate.test("year=2023/month=11/region=us-east-1"));
+        Assertions.assertTrue(predicate.test("year=2023/month=03/region=us west"));
+        Assertions.assertFalse(predicate.test("year=2023/month=10/region=us-east-1"));
+        Assertions.assertFalse(predicate.test("year=2023/month=12/region=us-east-2"));
+    }
+
+    @Test
+    void ranges() {
+        PartitionPredicate lots = PartitionPredicate.compile("lot between 20231130PT15M090 and 20231201PT15M003");
+
+        Assertions.assertTrue(lots.test("dataset=orders/lot=20231130PT15M090/part-0.json"));
+        Assertions.assertTrue(lots.test("dataset=orders/lot=20231201PT15M003/part-0.json"));
+        Assertions.assertFalse(lots.test("dataset=orders/lot=20231130PT15M089/part-0.json"));
+        Assertions.assertFalse(lots.test("dataset=orders/lot=20231201PT15M004/part-0.json"));
+
+        PartitionPredicate numeric = PartitionPredicate.compile("day >= 9 and day < 10 and name > b");
+
+        Assertions.assertTrue(numeric.test("day=09/name=c"));
+        Assertions.assertTrue(numeric.test("day=9/name=ba"));
+        Assertions.assertFalse(numeric.test("day=10/name=c"));
+        Assertions.assertFalse(numeric.test("day=8/name=c"));
+        Assertions.assertFalse(numeric.test("day=09/name=b"));
+        Assertions.assertFalse(numeric.test("day=x9/name=c"));
+    }
+
+    @Test
+    void invalid() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PartitionPredicate.compile(""));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PartitionPredicate.compile("year"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PartitionPredicate.compile("year = "));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PartitionPredicate.compile("year = 2023 or month = 1"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PartitionPredicate.compile("month in (1, 2"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PartitionPredicate.compile("month between 1 2"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PartitionPredicate.compile("name = 'open"));
+    }
+}
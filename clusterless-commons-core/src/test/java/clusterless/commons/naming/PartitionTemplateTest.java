@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2023 Chris K Wensel <chris@wensel.net>. All Rights Reserved.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package clusterless.commons.naming;
+
+import clusterless.commons.temporal.IntervalBuilder;
+import clusterless.commons.temporal.IntervalUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+public class PartitionTemplateTest {
+    // Mon Feb 06 2023 23:52:06 GMT+0000
+    private static final long NOW = 1675727526500L;
+
+    @Test
+    void render() {
+        IntervalBuilder builder = new IntervalBuilder(IntervalUnit.FOURTHS);
+        PartitionTemplate template = PartitionTemplate.compile("dataset={name}/year={year}/month={month}/day={day}/hour={hour}/lot={lot}", builder);
+
+        Assertions.assertEquals(Set.of("name"), template.unbound());
+        Assertions.assertThrows(IllegalStateException.class, () -> template.render(NOW));
+
+        PartitionTemplate bound = template.bind("name", Label.of("Sales").with("Orders"));
+
+        String expected = Partition.namedOf("dataset", "sales-orders")
+                .withNamed("year", "2023")
+                .withNamed("month", "02")
+                .withNamed("day", "06")
+                .withNamed("hour", "23")
+                .withNamed("lot", builder.truncateAndFormat(NOW))
+                .partition();
+
+        Assertions.assertEquals(expected, bound.render(NOW));
+        Assertions.assertSame(bound.render(NOW), bound.render(NOW + 1));
+        Assertions.assertEquals("dataset=sales-orders/year=2023/month=02/day=07/hour=00/lot=20230207PT15M000", bound.render(NOW + 8 * 60 * 1000));
+        Assertions.assertEquals("/" + expected + "/", bound.partition(NOW).path());
+        Assertions.assertEquals("s3://bucket/" + expected, bound.renderTo(NOW, new StringBuilder("s3://bucket/")).toString());
+    }
+
+    @Test
+    void bind() {
+        IntervalBuilder builder = new IntervalBuilder(IntervalUnit.TWELFTHS);
+        PartitionTemplate template = PartitionTemplate.compile("{bucket}/{name}-{version}/{lot}", builder)
+                .bind(Map.of("bucket", "data", "name", "orders", "version", 2));
+
+        Assertions.assertEquals("data/orders-2/20230206PT5M286", template.render(NOW));
+        Assertions.assertEquals("static", PartitionTemplate.compile("static", builder).render(NOW));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> template.bind("lot", "value"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> template.bind("missing", "value"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PartitionTemplate.compile("dataset={name", builder));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PartitionTemplate.compile("dataset={}", builder));
+    }
+}
@@ -64,6 +64,27 @@ public class PartitionTest {
         Assertions.assertEquals("/lower/one/two/three/", with.path());
     }
 
+    @Test
+    void appendTo() {
+        Partition partition = Partition.of("lower")
+                .with(Partition.literal("{/case}"))
+                .withNamed("language", "english")
+                .with(Case.Upper)
+                .withTerminal(null)
+                .with("ignored");
+
+        Assertions.assertEquals("lower{/case}/language=english/case=upper", partition.appendTo(new StringBuilder()).toString());
+        Assertions.assertEquals(partition.partition(true), partition.appendTo(new StringBuilder(), true).toString());
+        Assertions.assertEquals(partition.path(), partition.appendPathTo(new StringBuilder()).toString());
+        Assertions.assertEquals(partition.prefix(), partition.appendPrefixTo(new StringBuilder()).toString());
+        Assertions.assertEquals("s3://bucket/lower{/case}/language=english/case=upper/", partition.appendPathTo(new StringBuilder("s3://bucket")).toString());
+
+        Assertions.assertEquals("", Partition.NULL.appendTo(new StringBuilder(), true).toString());
+
+        Assertions.assertEquals("case=lower/", Case.Lower.appendTo(new StringBuilder(), true).toString());
+        Assertions.assertEquals(Partition.namedOf("case", "lower").partition(), Partition.namedOf("case", "lower").appendTo(new StringBuilder()).toString());
+    }
+
     enum Case implements Partition.EnumPartition {
         Lower,
         Upper;
@@ -96,4 +117,61 @@ public class PartitionTest {
         Assertions.assertEquals("{lower}/{case}", Partition.literal("{lower}").with("{case}").partition());
         Assertions.assertEquals("{lower}{/case}", Partition.literal("{lower}").with(Partition.literal("{/case}")).partition());
     }
+
+    @Test
+    void segmented() {
+        Partition nested = Partition.literal("{a}").with("b").with(Partition.literal("{/c}"));
+        Partition partition = Partition.of("bucket")
+                .with(nested)
+                .withNamed("year", "2023")
+                .with(Partition.of("dataset").withNamed("version", "1"));
+
+        Assertions.assertEquals("bucket/{a}/b{/c}/year=2023/dataset/version=1", partition.partition());
+        Assertions.assertEquals("/bucket/{a}/b{/c}/year=2023/dataset/version=1/", partition.path());
+        Assertions.assertEquals("/bucket/{a}/b{/c}/year=2023/dataset/version=1", partition.prefix());
+        Assertions.assertEquals(partition.partition(), partition.appendTo(new StringBuilder()).toString());
+        Assertions.assertSame(partition.path(), partition.path());
+        Assertions.assertSame(partition.prefix(), partition.prefix());
+        Assertions.assertSame(partition.partition(true), partition.partition(true));
+
+        Assertions.assertEquals("bucket{a}/b{/c}", Partition.of("bucket").with(Partition.literal("{a}")).with("b").with(Partition.literal("{/c}")).partition());
+        Assertions.assertEquals("//one", Partition.SEPARATOR.with("one").partition());
+        Assertions.assertEquals("one/two", Partition.of("one").with(Partition.namedOf("two", null)).with("/").with("two").partition());
+    }
+
+    @Test
+    void parse() {
+        Partition rendered = Partition.namedOf("dataset", "x")
+                .withNamed("year", "2023")
+                .withNamed("month", "12")
+                .with("file=name.txt");
+
+        ParsedPartition parsed = Partition.parse(rendered.path());
+
+        Assertions.assertEquals(4, parsed.size());
+        Assertions.assertEquals(rendered.partition(), parsed.partition());
+        Assertions.assertEquals(rendered.path(), parsed.path());
+        Assertions.assertEquals("2023", parsed.get("year").toString());
+        Assertions.assertEquals("name.txt", parsed.get("file").toString());
+        Assertions.assertNull(parsed.get("day"));
+        Assertions.assertNull(parsed.get("yea"));
+        Assertions.assertEquals("month=12", parsed.segment(2).toString());
+        Assertions.assertEquals("onth", parsed.segment(2).subSequence(1, 5).toString());
+
+        StringBuilder named = new StringBuilder();
+        parsed.forEachNamed((key, value) -> named.append(key).append(':').append(value).append(';'));
+        Assertions.assertEquals("dataset:x;year:2023;month:12;file:name.txt;", named.toString());
+
+        ParsedPartition mixed = Partition.parse("//bucket//a=b=c/lot/");
+
+        Assertions.assertEquals(3, mixed.size());
+        Assertions.assertEquals("bucket/a=b=c/lot", mixed.partition());
+        Assertions.assertFalse(mixed.isNamed(0));
+        Assertions.assertNull(mixed.key(0));
+        Assertions.assertEquals("b=c", mixed.get("a").toString());
+        Assertions.assertEquals("lot", mixed.segment(2).toString());
+
+        Assertions.assertTrue(Partition.parse("//").isNull());
+        Assertions.assertEquals("/a/b/", Partition.parse("a").with("b").path());
+    }
 }
@@ -11,6 +11,8 @@ package clusterless.commons.naming;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.Set;
+
 public class RefTest {
     @Test
     void name() {
@@ -57,4 +59,118 @@ public class RefTest {
 
         Assertions.assertEquals("ref:aws:id:dev:project-a:20230101:core:compute:spot", label.lowerColonPath());
     }
+
+    @Test
+    void equality() {
+        Ref ref = Ref.idRef()
+                .withProvider("aws")
+                .withStage(Stage.of("dev"))
+                .withScope("projectA")
+                .withScopeVersion("20230101")
+                .withResourceNs("core")
+                .withResourceType("compute")
+                .withResourceName("spot");
+
+        Ref other = Ref.ref()
+                .withResourceName("spot")
+                .withResourceType("compute")
+                .withResourceNs("core")
+                .withScopeVersion("20230101")
+                .withScope("projectA")
+                .withStage(Stage.of("DEV"))
+                .withProvider("aws")
+                .withQualifier(Ref.Qualifier.Id);
+
+        Assertions.assertEquals(ref, other);
+        Assertions.assertEquals(ref.hashCode(), other.hashCode());
+        Assertions.assertEquals(Set.of(ref), Set.of(other));
+
+        Assertions.assertNotEquals(ref, other.withQualifier(Ref.Qualifier.Arn));
+        Assertions.assertNotEquals(ref, other.withStage(Stage.nullStage()));
+    }
+
+    @Test
+    void fixedEquality() {
+        Assertions.assertEquals(Fixed.of("value"), Fixed.of("value"));
+        Assertions.assertEquals(Fixed.of("value").hashCode(), Fixed.of("value").hashCode());
+        Assertions.assertEquals(Stage.of("dev"), Stage.of("DEV"));
+        Assertions.assertEquals(Version.of("20230101"), Version.of("20230101"));
+        Assertions.assertEquals(Region.of("us-east-1"), Region.of("us-east-1"));
+        Assertions.assertEquals(Fixed.fixedNull(), Fixed.of(null));
+
+        Assertions.assertNotEquals(Fixed.of("value"), Fixed.of("other"));
+        Assertions.assertNotEquals(Fixed.of("20230101"), Version.of("20230101"));
+    }
+
+    @Test
+    void interned() {
+        Assertions.assertSame(Fixed.of("value"), Fixed.of("value"));
+        Assertions.assertSame(Stage.of("dev"), Stage.of("DEV"));
+        Assertions.assertSame(Stage.of("dev").asLower(), Stage.of("Dev").asLower());
+        Assertions.assertSame(Version.of("20230101"), Version.of("20230101"));
+        Assertions.assertSame(Region.of("us-east-1"), Region.of("us-east-1"));
+
+        Ref ref = Ref.ref().withStage(Stage.of("dev")).withScope("projectA");
+        Ref other = Ref.ref().withStage(Stage.of("dev")).withScope("projectA");
+
+        Assertions.assertSame(ref.stage(), other.stage());
+        Assertions.assertSame(ref.scope(), other.scope());
+    }
+
+    @Test
+    void internBounded() {
+        InternPool<String, Fixed> pool = new InternPool<>(2);
+
+        Fixed first = pool.intern("first", Fixed::of);
+        Assertions.assertSame(first, pool.intern("first", k -> Fixed.fixedNull()));
+
+        pool.intern("second", Fixed::of);
+        pool.intern("third", Fixed::of);
+
+        Assertions.assertEquals(2, pool.size());
+    }
+
+    @Test
+    void parse() {
+        Ref ref = Ref.idRef()
+                .withProvider("aws")
+                .withScope("projectA")
+                .withScopeVersion("20230101")
+                .withResourceNs("core")
+                .withResourceType("compute")
+                .withResourceName(Label.of("spot").with(Region.of("us-east-1")));
+
+        Assertions.assertEquals(ref, Ref.parse(ref.exportName()));
+        Assertions.assertEquals(ref.exportName(), Ref.parse(ref.exportName()).exportName());
+
+        Ref staged = ref.withStage(Stage.of("dev"));
+
+        Assertions.assertEquals(staged, Ref.parse(staged.exportName()));
+        Assertions.assertEquals(staged.exportName(), Ref.parse(new StringBuilder(staged.exportName())).exportName());
+
+        Assertions.assertSame(Ref.parseCached(staged.exportName()), Ref.parseCached(staged.exportName()));
+    }
+
+    @Test
+    void parseInvalid() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Ref.parse(""));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Ref.parse("ref"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Ref.parse("foo:aws:id:project-a:20230101:core:compute:spot"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Ref.parse("ref:aws:id:20230101:core:compute:spot"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Ref.parse("ref:aws:foo:project-a:20230101:core:compute:spot"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Ref.parse("ref:aws:id:dev:extra:project-a:20230101:core:compute:spot"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Ref.parse("ref:aws:id::project-a:20230101:core:compute:spot"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Ref.parse("ref:aws:id:project-a:20230101:core:compute:"));
+    }
+
+    @Test
+    void qualifierAndProvider() {
+        String value = "ref:aws:arn:dev:project-a:20230101:core:compute:spot";
+
+        Assertions.assertEquals(Ref.Qualifier.Arn, Ref.qualifier(value).orElseThrow());
+        Assertions.assertEquals("aws", Ref.provider(value).orElseThrow());
+        Assertions.assertEquals(Ref.Qualifier.Id, Ref.qualifier("ref:aws:id").orElseThrow());
+        Assertions.assertTrue(Ref.qualifier("arn:aws:s3:::bucket").isEmpty());
+        Assertions.assertTrue(Ref.provider("arn:aws:s3:::bucket").isEmpty());
+    }
 }
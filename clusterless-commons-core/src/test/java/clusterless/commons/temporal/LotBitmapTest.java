@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2023 Chris K Wensel <chris@wensel.net>. All Rights Reserved.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package clusterless.commons.temporal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+import java.time.temporal.TemporalUnit;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LotBitmapTest {
+    // Wed Feb 01 2023 00:00:00 GMT+0000
+    private static final long START = 1675209600000L;
+    // Wed Mar 01 2023 00:00:00 GMT+0000
+    private static final long END = 1677628800000L;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Fourths", "Sixths", "Twelfths", "PT1M", "PT24H"})
+    public void missing(String name) {
+        TemporalUnit unit = IntervalUnits.find(name);
+        IntervalBuilder builder = new IntervalBuilder(unit);
+        LotBitmap bitmap = new LotBitmap(unit);
+        TreeSet<Long> marked = new TreeSet<>();
+        Random random = new Random(0);
+
+        for (int i = 0; i < 5_000; i++) {
+            // leave the last day of the month empty
+            long epochMilli = START + (long) (random.nextDouble() * (END - START - EpochDays.MILLIS_PER_DAY));
+
+            assertEquals(marked.add(builder.truncate(epochMilli)), bitmap.mark(epochMilli));
+            assertTrue(bitmap.contains(epochMilli));
+        }
+
+        assertEquals(marked.size(), bitmap.cardinality());
+
+        TreeSet<Long> expected = builder.lots(START, END)
+                .map(Lot::startMilli)
+                .filter(start -> !marked.contains(start))
+                .collect(Collectors.toCollection(TreeSet::new));
+
+        assertEquals(expected, bitmap.missing(START, END).boxed().collect(Collectors.toCollection(TreeSet::new)));
+        assertEquals(expected.size(), bitmap.missing(START, END).count());
+        assertEquals(builder.lots(START, START + 1).count() - (marked.contains(START) ? 1 : 0), bitmap.missing(START, START + 1).count());
+        assertFalse(bitmap.isComplete(START, END));
+    }
+
+    @Test
+    public void complete() {
+        LotBitmap bitmap = new LotBitmap(IntervalUnit.TWELFTHS);
+        IntervalBuilder builder = new IntervalBuilder(IntervalUnit.TWELFTHS);
+
+        builder.lots(START, START + EpochDays.MILLIS_PER_DAY).forEach(bitmap::mark);
+
+        assertTrue(bitmap.isComplete(START, START + EpochDays.MILLIS_PER_DAY));
+        assertFalse(bitmap.isComplete(START, START + EpochDays.MILLIS_PER_DAY + 1));
+        assertEquals(288, bitmap.cardinality());
+        assertFalse(bitmap.mark(builder.lot(START)));
+        assertThrows(IllegalArgumentException.class, () -> bitmap.mark(new IntervalBuilder(IntervalUnit.FOURTHS).lot(START)));
+    }
+
+    @Test
+    public void unionIntersection() {
+        LotBitmap first = new LotBitmap(IntervalUnit.FOURTHS);
+        LotBitmap second = new LotBitmap(IntervalUnit.FOURTHS);
+        long lotMillis = IntervalUnit.FOURTHS.getDuration().toMillis();
+
+        for (long epochMilli = START; epochMilli < END; epochMilli += lotMillis) {
+            long ordinal = (epochMilli - START) / lotMillis;
+
+            if (ordinal % 2 == 0) {
+                first.mark(epochMilli);
+            }
+
+            if (ordinal % 3 == 0) {
+                second.mark(epochMilli);
+            }
+        }
+
+        LotBitmap union = first.union(second);
+        LotBitmap intersection = first.intersection(second);
+
+        for (long epochMilli = START; epochMilli < END; epochMilli += lotMillis) {
+            assertEquals(first.contains(epochMilli) || second.contains(epochMilli), union.contains(epochMilli));
+            assertEquals(first.contains(epochMilli) && second.contains(epochMilli), intersection.contains(epochMilli));
+        }
+
+        assertEquals(first.cardinality() + second.cardinality() - intersection.cardinality(), union.cardinality());
+        assertThrows(IllegalArgumentException.class, () -> first.union(new LotBitmap(IntervalUnit.SIXTHS)));
+    }
+
+    @Test
+    public void serialize() {
+        LotBitmap bitmap = new LotBitmap(IntervalUnit.TWELFTHS);
+        IntervalBuilder builder = new IntervalBuilder(IntervalUnit.TWELFTHS);
+
+        // a year of lots, with a few missing
+        long yearEnd = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+        builder.lots(Instant.parse("2023-01-01T00:00:00Z").toEpochMilli(), yearEnd)
+                .filter(lot -> lot.startMilli() % 7919 != 0)
+                .forEach(bitmap::mark);
+
+        byte[] bytes = bitmap.toBytes();
+
+        assertTrue(bytes.length < 16 * 1024, "bytes: " + bytes.length);
+        assertEquals(bitmap, LotBitmap.fromBytes(bytes));
+        assertEquals(new LotBitmap(IntervalUnit.TWELFTHS), LotBitmap.fromBytes(new LotBitmap(IntervalUnit.TWELFTHS).toBytes()));
+
+        assertThrows(IllegalArgumentException.class, () -> LotBitmap.fromBytes(new byte[0]));
+        assertThrows(IllegalArgumentException.class, () -> LotBitmap.fromBytes(new byte[]{2, 0, 0, 0, 5, 0, 0, 0, 0}));
+    }
+}
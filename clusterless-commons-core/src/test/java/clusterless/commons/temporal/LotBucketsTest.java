@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2023 Chris K Wensel <chris@wensel.net>. All Rights Reserved.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package clusterless.commons.temporal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LotBucketsTest {
+    // Mon Feb 06 2023 00:00:00 GMT+0000
+    private static final long START = 1675641600000L;
+
+    @Test
+    public void buckets() {
+        IntervalBuilder builder = new IntervalBuilder(IntervalUnit.FOURTHS);
+        long[] epochMillis = {
+                START + 3_600_000, // lot 4
+                START, // lot 0
+                START + 3_600_001, // lot 4
+                START + 900_000, // lot 1
+                START + 1
+        };
+
+        LotBuckets buckets = builder.lotBuckets(epochMillis);
+
+        assertEquals(5, buckets.size());
+        assertEquals(5, buckets.buckets());
+        assertArrayEquals(new int[]{1, 4, 3, 0, 2}, buckets.permutation());
+        assertArrayEquals(new int[]{0, 1, 4}, buckets.nonEmpty().toArray());
+        assertEquals(2, buckets.count(0));
+        assertEquals(0, buckets.count(2));
+        assertEquals(3, buckets.start(4));
+        assertEquals(5, buckets.end(4));
+        assertEquals("20230206PT15M004", buckets.lot(4).format());
+        assertArrayEquals(new long[]{START, START + 1, START + 900_000, START + 3_600_000, START + 3_600_001}, buckets.reorder(epochMillis));
+
+        assertEquals(0, builder.lotBuckets(new long[0]).buckets());
+    }
+
+    @Test
+    public void outlier() {
+        IntervalBuilder builder = new IntervalBuilder("PT1M");
+        Random random = new Random(0);
+        long[] epochMillis = new long[200_000];
+
+        for (int i = 0; i < epochMillis.length; i++) {
+            epochMillis[i] = START + random.nextInt(60 * 60 * 1000);
+        }
+
+        // a value at the epoch alone spans over 27 million lots, only the distinct lots are given a bucket
+        epochMillis[50_000] = 0;
+        epochMillis[70_000] = Long.MAX_VALUE;
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            LotBuckets buckets = builder.lotBuckets(epochMillis, pool);
+
+            assertEquals(62, buckets.buckets());
+            assertEquals(buckets.buckets(), buckets.nonEmpty().count());
+            assertEquals(0, buckets.startMilli(0));
+            assertEquals(1, buckets.count(0));
+            assertEquals(50_000, buckets.permutation()[0]);
+            assertEquals(builder.truncate(Long.MAX_VALUE), buckets.startMilli(61));
+            assertEquals(70_000, buckets.permutation()[epochMillis.length - 1]);
+            assertArrayEquals(LotBuckets.of(IntervalUnits.find("PT1M"), epochMillis).permutation(), buckets.permutation());
+
+            long[] sorted = buckets.reorder(epochMillis);
+
+            for (int bucket = 0; bucket < buckets.buckets(); bucket++) {
+                for (int i = buckets.start(bucket); i < buckets.end(bucket); i++) {
+                    assertEquals(buckets.startMilli(bucket), builder.truncate(sorted[i]));
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void parallel() {
+        Random random = new Random(0);
+        long[] epochMillis = new long[1_000_000];
+
+        for (int i = 0; i < epochMillis.length; i++) {
+            epochMillis[i] = START + random.nextInt(3 * 24 * 60 * 60 * 1000);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            LotBuckets sequential = LotBuckets.of(IntervalUnit.TWELFTHS, epochMillis);
+            LotBuckets parallel = LotBuckets.of(IntervalUnit.TWELFTHS, epochMillis, pool);
+
+            assertArrayEquals(sequential.permutation(), parallel.permutation());
+            assertEquals(3 * 288, parallel.buckets());
+
+            IntervalBuilder builder = new IntervalBuilder(IntervalUnit.TWELFTHS);
+            long[] sorted = parallel.reorder(epochMillis);
+
+            for (int bucket = 0; bucket < parallel.buckets(); bucket++) {
+                for (int i = parallel.start(bucket); i < parallel.end(bucket); i++) {
+                    assertEquals(parallel.startMilli(bucket), builder.truncate(sorted[i]));
+                }
+            }
+
+            long[] expected = epochMillis.clone();
+            Arrays.sort(expected);
+
+            Arrays.sort(sorted);
+            assertArrayEquals(expected, sorted);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
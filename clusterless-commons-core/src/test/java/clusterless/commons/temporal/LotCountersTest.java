@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2023 Chris K Wensel <chris@wensel.net>. All Rights Reserved.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package clusterless.commons.temporal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LotCountersTest {
+    // Mon Feb 06 2023 23:52:06 GMT+0000
+    private static final long NOW = 1675727526500L;
+    private static final long LOT_MILLIS = IntervalUnit.FOURTHS.getDuration().toMillis();
+    private static final int RECORDS = 0;
+    private static final int BYTES = 1;
+
+    @Test
+    public void counters() {
+        LotCounters counters = new LotCounters(IntervalUnit.FOURTHS, 4, 2);
+
+        assertTrue(counters.increment(NOW, RECORDS));
+        assertTrue(counters.add(NOW + 1, BYTES, 100));
+        assertTrue(counters.add(NOW + LOT_MILLIS, BYTES, 10));
+
+        LotCounters.Snapshot snapshot = counters.snapshot(NOW);
+
+        assertEquals("20230206PT15M095", snapshot.lot().format());
+        assertEquals(1, snapshot.get(RECORDS));
+        assertEquals(100, snapshot.get(BYTES));
+
+        List<LotCounters.Snapshot> closed = counters.closed();
+
+        assertEquals(1, closed.size());
+        assertEquals(snapshot.lot(), closed.get(0).lot());
+
+        // recycles the slot of NOW
+        assertTrue(counters.increment(NOW + 4 * LOT_MILLIS, RECORDS));
+
+        assertNull(counters.snapshot(NOW));
+        assertFalse(counters.increment(NOW, RECORDS));
+        assertFalse(counters.increment(NOW - LOT_MILLIS, RECORDS));
+        assertEquals(1, counters.snapshot(NOW + 4 * LOT_MILLIS).get(RECORDS));
+        assertEquals(1, counters.closed().size());
+        assertEquals("20230207PT15M000", counters.closed().get(0).lot().format());
+    }
+
+    @Test
+    public void concurrent() throws Exception {
+        LotCounters counters = new LotCounters(IntervalUnit.FOURTHS, 16, 2);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 100_000; i++) {
+                        long epochMilli = NOW + (i % 8) * LOT_MILLIS;
+
+                        counters.increment(epochMilli, RECORDS);
+                        counters.add(epochMilli, BYTES, 2);
+                    }
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<LotCounters.Snapshot> closed = counters.closed();
+
+        assertEquals(7, closed.size());
+
+        for (int i = 0; i < 8; i++) {
+            LotCounters.Snapshot snapshot = counters.snapshot(NOW + i * LOT_MILLIS);
+
+            assertEquals(50_000, snapshot.get(RECORDS));
+            assertEquals(100_000, snapshot.get(BYTES));
+        }
+    }
+
+    @Test
+    public void concurrentRecycle() throws Exception {
+        int lots = 200;
+        int addsPerLot = 500;
+        LotCounters counters = new LotCounters(IntervalUnit.FOURTHS, 2, 1);
+        LongAdder[] accepted = new LongAdder[lots];
+        LongAdder rejected = new LongAdder();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < lots; i++) {
+            accepted[i] = new LongAdder();
+        }
+
+        try {
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    // every thread advances through the lots, recycling the slots other threads are adding to
+                    for (int i = 0; i < lots * addsPerLot; i++) {
+                        int lot = i / addsPerLot;
+
+                        if (counters.increment(NOW + lot * LOT_MILLIS, RECORDS)) {
+                            accepted[lot].increment();
+                        } else {
+                            rejected.increment();
+                        }
+                    }
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long total = 0;
+
+        for (int i = 0; i < lots; i++) {
+            assertTrue(accepted[i].sum() <= 4 * addsPerLot);
+            total += accepted[i].sum();
+        }
+
+        assertEquals(4L * lots * addsPerLot, total + rejected.sum());
+
+        // every accepted add to a retained lot is counted
+        assertEquals(accepted[lots - 1].sum(), counters.snapshot(NOW + (lots - 1) * LOT_MILLIS).get(RECORDS));
+        assertEquals(accepted[lots - 2].sum(), counters.snapshot(NOW + (lots - 2) * LOT_MILLIS).get(RECORDS));
+        assertNull(counters.snapshot(NOW + (lots - 3) * LOT_MILLIS));
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2023 Chris K Wensel <chris@wensel.net>. All Rights Reserved.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package clusterless.commons.temporal;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LotSchedulerTest {
+    // Mon Feb 06 2023 23:52:06 GMT+0000
+    private static final long NOW = 1675727526500L;
+    private static final long FIFTEEN_MINUTES = Duration.ofMinutes(15).toMillis();
+
+    static class FakeClock extends Clock {
+        long millis;
+
+        FakeClock(long millis) {
+            this.millis = millis;
+        }
+
+        void advance(Duration duration) {
+            millis += duration.toMillis();
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+
+    @Test
+    public void every() {
+        FakeClock clock = new FakeClock(NOW);
+        LotScheduler scheduler = new LotScheduler(IntervalUnit.FOURTHS, Duration.ofSeconds(30), clock);
+        List<String> fired = new ArrayList<>();
+
+        scheduler.every(lot -> fired.add(lot.format()));
+
+        // 20230206PT15M095 closes at 23:45:00, and fires at 00:00:30
+        assertEquals(1675728000000L + 30_000, scheduler.nextFireMilli());
+        assertEquals(0, scheduler.runDue());
+
+        clock.advance(Duration.ofMinutes(8));
+        assertEquals(0, scheduler.runDue());
+
+        clock.advance(Duration.ofSeconds(30));
+        assertEquals(1, scheduler.runDue());
+        assertEquals(List.of("20230206PT15M095"), fired);
+
+        clock.advance(Duration.ofMinutes(30));
+        assertEquals(2, scheduler.runDue());
+        assertEquals(List.of("20230206PT15M095", "20230207PT15M000", "20230207PT15M001"), fired);
+        assertEquals(0, scheduler.runDue());
+    }
+
+    @Test
+    public void schedule() {
+        FakeClock clock = new FakeClock(NOW);
+        LotScheduler scheduler = new LotScheduler(IntervalUnit.FOURTHS, Duration.ZERO, clock);
+        List<String> fired = new ArrayList<>();
+
+        // many registrations on the same boundary are one wakeup
+        for (int i = 0; i < 10; i++) {
+            scheduler.schedule(NOW + i, lot -> fired.add(lot.format()));
+        }
+
+        scheduler.schedule(NOW + 2 * FIFTEEN_MINUTES, lot -> fired.add(lot.format()));
+
+        assertEquals(1675728000000L, scheduler.nextFireMilli());
+
+        clock.advance(Duration.ofMinutes(20));
+        assertEquals(1, scheduler.runDue());
+        assertEquals(10, fired.size());
+        assertEquals("20230206PT15M095", fired.get(0));
+        assertEquals(1675728000000L + 2 * FIFTEEN_MINUTES, scheduler.nextFireMilli());
+
+        assertThrows(IllegalArgumentException.class, () -> scheduler.schedule(NOW, lot -> fired.add(lot.format())));
+
+        clock.advance(Duration.ofMinutes(30));
+        assertEquals(1, scheduler.runDue());
+        assertEquals("20230207PT15M001", fired.get(10));
+        assertEquals(Long.MAX_VALUE, scheduler.nextFireMilli());
+    }
+
+    @Test
+    public void scheduleAcrossWheel() {
+        FakeClock clock = new FakeClock(NOW);
+        LotScheduler scheduler = new LotScheduler(IntervalUnit.TWELFTHS, Duration.ZERO, clock);
+        List<Long> fired = new ArrayList<>();
+        long lotMillis = IntervalUnit.TWELFTHS.getDuration().toMillis();
+
+        // lots sharing a wheel slot, more than a full turn of the wheel apart
+        for (int i = 0; i < 500; i += 7) {
+            scheduler.schedule(NOW + i * lotMillis, lot -> fired.add(lot.startMilli()));
+        }
+
+        clock.advance(Duration.ofDays(3));
+
+        assertEquals(72, scheduler.runDue());
+        assertEquals(72, fired.size());
+
+        for (int i = 1; i < fired.size(); i++) {
+            assertEquals(7 * lotMillis, fired.get(i) - fired.get(i - 1));
+        }
+    }
+
+    @Test
+    public void failingCallback() {
+        FakeClock clock = new FakeClock(NOW);
+        LotScheduler scheduler = new LotScheduler(IntervalUnit.FOURTHS, Duration.ZERO, clock);
+        List<Lot> fired = new ArrayList<>();
+
+        scheduler.every(lot -> {
+            throw new IllegalStateException("failed");
+        });
+        scheduler.every(fired::add);
+
+        clock.advance(Duration.ofMinutes(30));
+
+        assertThrows(IllegalStateException.class, scheduler::runDue);
+        assertEquals(2, fired.size());
+    }
+}
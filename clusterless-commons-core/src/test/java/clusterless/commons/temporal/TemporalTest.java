@@ -8,19 +8,41 @@
 
 package clusterless.commons.temporal;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import java.time.DateTimeException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalField;
 import java.time.temporal.TemporalUnit;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  *
@@ -68,4 +90,326 @@ public class TemporalTest {
 
         assertEquals(LocalDateTime.ofInstant(instant.truncatedTo(durationUnit), ZoneId.of("UTC")), dateTime);
     }
+
+    @ParameterizedTest
+    @EnumSource(IntervalUnit.class)
+    public void epochMilli(IntervalUnit unit) {
+        IntervalBuilder builder = new IntervalBuilder(unit);
+        Random random = new Random(0);
+
+        long min = Instant.parse("0000-01-01T00:00:00Z").toEpochMilli();
+        long max = Instant.parse("9999-12-31T23:59:59.999Z").toEpochMilli();
+
+        char[] buffer = new char[builder.formattedLength() + 1];
+        StringBuilder stringBuilder = new StringBuilder();
+
+        for (int i = 0; i < 100_000; i++) {
+            long epochMilli = i < 4 ? new long[]{min, max, 0, -1}[i] : min + (long) (random.nextDouble() * (max - min));
+            Instant instant = Instant.ofEpochMilli(epochMilli);
+
+            String expected = builder.truncateAndFormat(instant);
+
+            assertEquals(builder.truncate(instant).toEpochMilli(), builder.truncate(epochMilli));
+            assertEquals(instant.get(unit == IntervalUnit.FOURTHS ? IntervalField.FOURTH_OF_DAY : unit == IntervalUnit.SIXTHS ? IntervalField.SIXTH_OF_DAY : IntervalField.TWELFTH_OF_DAY), builder.lotIndex(epochMilli));
+            assertEquals(expected, builder.truncateAndFormat(epochMilli));
+
+            stringBuilder.setLength(0);
+            assertEquals(expected, builder.truncateAndFormat(epochMilli, stringBuilder).toString());
+
+            assertEquals(buffer.length, builder.truncateAndFormat(epochMilli, buffer, 1));
+            assertEquals(expected, new String(buffer, 1, builder.formattedLength()));
+        }
+
+        assertThrows(DateTimeException.class, () -> builder.truncateAndFormat(Instant.parse("+10000-01-01T00:00:00Z").toEpochMilli()));
+        assertThrows(DateTimeException.class, () -> builder.truncateAndFormat(Instant.parse("+10000-01-01T00:00:00Z")));
+        assertThrows(DateTimeException.class, () -> builder.truncateAndFormat(min - 1));
+    }
+
+    @ParameterizedTest
+    @EnumSource(IntervalUnit.class)
+    public void lotCodec(IntervalUnit unit) {
+        DateTimeFormatter formatter = IntervalUnits.formatter(unit);
+        LotCodec codec = LotCodec.of(unit);
+        Random random = new Random(0);
+
+        long min = Instant.parse("0000-01-01T00:00:00Z").toEpochMilli();
+        long max = Instant.parse("9999-12-31T23:59:59.999Z").toEpochMilli();
+
+        for (int i = 0; i < 100_000; i++) {
+            long epochMilli = min + (long) (random.nextDouble() * (max - min));
+            Instant instant = Instant.ofEpochMilli(epochMilli);
+            String lot = formatter.format(instant);
+
+            assertEquals(lot, codec.format(epochMilli));
+
+            long expected = formatter.parse(lot).query(LocalDateTime::from).toInstant(ZoneOffset.UTC).toEpochMilli();
+
+            assertEquals(expected, codec.parseEpochMilli(lot), lot);
+            assertEquals(codec.truncate(epochMilli), codec.parseEpochMilli(lot), lot);
+            assertEquals(codec.index(epochMilli), codec.parseIndex(lot), lot);
+        }
+
+        String literal = unit.getDuration().toString();
+        String lastIndex = String.format("%03d", codec.lotsPerDay() - 1);
+
+        // day of month past the end of the month resolves to the last day of the month
+        for (String lot : List.of("20230231" + literal + "000", "20240230" + literal + lastIndex, "00000229" + literal + "001")) {
+            long expected = formatter.parse(lot).query(LocalDateTime::from).toInstant(ZoneOffset.UTC).toEpochMilli();
+
+            assertEquals(expected, codec.parseEpochMilli(lot), lot);
+        }
+
+        List<String> invalid = List.of(
+                "",
+                "20230206",
+                "20230206" + literal,
+                "20230206" + literal + "00",
+                "20230206" + literal + "0000",
+                "20230206PT1M000",
+                "20231306" + literal + "000",
+                "20230006" + literal + "000",
+                "20230200" + literal + "000",
+                "20230232" + literal + "000",
+                "2023020a" + literal + "000",
+                "20230206" + literal + "-01",
+                "20230206" + literal.toLowerCase() + "000",
+                "20230206" + literal + String.format("%03d", codec.lotsPerDay())
+        );
+
+        for (String lot : invalid) {
+            assertThrows(DateTimeParseException.class, () -> formatter.parse(lot).query(LocalDateTime::from), lot);
+            assertThrows(DateTimeParseException.class, () -> codec.parseEpochMilli(lot), lot);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(IntervalUnit.class)
+    public void lots(IntervalUnit unit) {
+        IntervalBuilder builder = new IntervalBuilder(unit);
+        long lotMillis = unit.getDuration().toMillis();
+
+        // Mon Feb 06 2023 23:52:06 GMT+0000 through Thu Feb 09 2023 00:00:00 GMT+0000
+        Instant start = Instant.ofEpochMilli(1675727526500L);
+        Instant end = Instant.ofEpochMilli(1675900800000L);
+
+        List<Lot> lots = builder.lots(start, end).collect(Collectors.toList());
+
+        assertEquals(builder.truncateAndFormat(start), lots.get(0).format());
+        assertEquals(builder.truncate(start).toEpochMilli(), lots.get(0).startMilli());
+        assertEquals(end.toEpochMilli(), lots.get(lots.size() - 1).endMilli());
+        assertEquals((end.toEpochMilli() - builder.truncate(start).toEpochMilli()) / lotMillis, lots.size());
+
+        for (Lot lot : lots) {
+            assertEquals(builder.truncateAndFormat(lot.start()), lot.format());
+            assertEquals(builder.lotIndex(lot.startMilli()), lot.index());
+            assertEquals(lot, builder.lot(lot.startMilli() + lotMillis - 1));
+        }
+
+        assertEquals(lots, builder.lots(start, end).parallel().collect(Collectors.toList()));
+
+        Spliterator<Lot> spliterator = builder.lotSpliterator(start.toEpochMilli(), end.toEpochMilli());
+        Spliterator<Lot> prefix = spliterator.trySplit();
+
+        assertEquals(lots.size() / 2, prefix.estimateSize());
+        assertEquals(lots.size() - lots.size() / 2, spliterator.estimateSize());
+
+        assertEquals(1, builder.lots(start, start.plusMillis(1)).count());
+        assertEquals(0, builder.lots(start, start).count());
+        assertNull(builder.lotSpliterator(0, 1).trySplit());
+    }
+
+    @ParameterizedTest
+    @EnumSource(IntervalUnit.class)
+    public void lotIds(IntervalUnit unit) {
+        IntervalBuilder builder = new IntervalBuilder(unit);
+        Random random = new Random(0);
+
+        long min = Instant.parse("0000-01-01T00:00:00Z").toEpochMilli();
+        long max = Instant.parse("9999-12-31T23:59:59.999Z").toEpochMilli();
+
+        long previousMilli = min;
+        long previousId = LotIds.of(unit, min);
+
+        for (int i = 0; i < 10_000; i++) {
+            long epochMilli = min + (long) (random.nextDouble() * (max - min));
+            long id = LotIds.of(unit, epochMilli);
+            String lot = builder.truncateAndFormat(epochMilli);
+
+            assertEquals(lot, LotIds.format(id));
+            assertEquals(id, LotIds.parse(lot));
+            assertEquals(id, LotIds.parse(unit, lot));
+            assertEquals(unit, LotIds.unit(id));
+            assertEquals(builder.truncate(epochMilli), LotIds.startMilli(id));
+            assertEquals(builder.lotIndex(epochMilli), LotIds.index(id));
+            assertEquals(builder.lot(epochMilli), LotIds.toLot(id));
+            assertEquals(builder.truncateAndFormat(LotIds.endMilli(id)), LotIds.format(LotIds.next(id)));
+            assertEquals(builder.truncateAndFormat(LotIds.startMilli(id) - 1), LotIds.format(LotIds.previous(id)));
+            assertEquals(id, LotIds.offset(LotIds.offset(id, 1000), -1000));
+
+            long distance = (builder.truncate(epochMilli) - builder.truncate(previousMilli)) / unit.getDuration().toMillis();
+
+            assertEquals(distance, LotIds.distance(previousId, id));
+            assertEquals(Long.signum(distance), Long.signum(Long.compare(id, previousId)));
+
+            previousMilli = epochMilli;
+            previousId = id;
+        }
+
+        long id = LotIds.parse("20230206" + unit.getDuration() + "000");
+
+        assertEquals("20230205" + unit.getDuration() + String.format("%03d", LotCodec.of(unit).lotsPerDay() - 1), LotIds.format(LotIds.previous(id)));
+        assertTrue(LotIds.of(IntervalUnit.TWELFTHS, 0) < LotIds.of(IntervalUnit.FOURTHS, 0));
+        assertThrows(IllegalArgumentException.class, () -> LotIds.distance(LotIds.of(IntervalUnit.TWELFTHS, 0), LotIds.of(IntervalUnit.FOURTHS, 0)));
+        assertThrows(DateTimeParseException.class, () -> LotIds.parse("20230206PT1M000"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"PT1M", "PT2M", "PT3M", "PT4M", "PT6M", "PT30M", "PT1H", "PT2H", "PT8H", "PT12H", "PT24H"})
+    public void dayIntervalUnits(String name) {
+        Duration duration = Duration.parse(name);
+        TemporalUnit unit = IntervalUnits.find(name);
+
+        assertEquals(duration, unit.getDuration());
+        assertSame(unit, IntervalUnits.of(duration));
+        assertSame(IntervalUnits.formatter(unit), IntervalUnits.formatter(unit));
+
+        DateTimeFormatter formatter = IntervalUnits.formatter(unit);
+        TemporalField field = IntervalUnits.field(unit);
+        IntervalBuilder builder = new IntervalBuilder(name);
+        Random random = new Random(0);
+
+        for (int i = 0; i < 10_000; i++) {
+            long epochMilli = 1675641600000L + (long) (random.nextDouble() * 366 * EpochDays.MILLIS_PER_DAY);
+            Instant instant = Instant.ofEpochMilli(epochMilli);
+            String lot = formatter.format(instant);
+
+            assertEquals(builder.truncate(instant).toEpochMilli(), builder.truncate(epochMilli));
+            assertEquals(instant.getLong(field), builder.lotIndex(epochMilli));
+            assertEquals(lot, builder.truncateAndFormat(instant));
+            assertEquals(lot, builder.truncateAndFormat(epochMilli));
+            assertEquals(formatter.parse(lot).query(LocalDateTime::from).toInstant(ZoneOffset.UTC).toEpochMilli(), builder.lotCodec().parseEpochMilli(lot));
+            assertEquals(lot, LotIds.format(LotIds.parse(lot)));
+        }
+
+        assertEquals(EpochDays.MINUTES_PER_DAY / duration.toMinutes(), builder.lots(1675641600000L, 1675641600000L + EpochDays.MILLIS_PER_DAY).count());
+    }
+
+    @Test
+    public void intervalUnits() {
+        assertSame(IntervalUnit.FOURTHS, IntervalUnits.find("fourths"));
+        assertSame(IntervalUnit.FOURTHS, IntervalUnits.find("PT15M"));
+        assertSame(IntervalUnit.FOURTHS, IntervalUnits.of(Duration.ofMinutes(15)));
+        assertSame(ChronoUnit.HOURS, IntervalUnits.find("hours"));
+        assertSame(ChronoUnit.HOURS, IntervalUnits.of(Duration.ofHours(1)));
+        assertSame(ChronoUnit.MINUTES, IntervalUnits.find("PT1M"));
+        assertSame(IntervalDateTimeFormatter.SIXTH_FORMATTER, IntervalUnits.formatter(IntervalUnit.SIXTHS));
+        assertSame(IntervalField.TWELFTH_OF_DAY, IntervalUnits.field(IntervalUnit.TWELFTHS));
+
+        assertEquals("20230206PT1M1439", new IntervalBuilder(ChronoUnit.MINUTES).truncateAndFormat(Instant.parse("2023-02-06T23:59:59Z")));
+        assertEquals("20230206PT24H000", new IntervalBuilder(ChronoUnit.DAYS).truncateAndFormat(Instant.parse("2023-02-06T23:59:59Z")));
+        assertEquals("20230206PT2M719", new IntervalBuilder("PT2M").truncateAndFormat(Instant.parse("2023-02-06T23:59:59Z")));
+
+        assertEquals(IntervalUnits.find("PT2M"), IntervalUnits.findDurationWithin("data/lot=20230206PT2M719/part").orElseThrow());
+        assertEquals(IntervalUnit.FOURTHS, IntervalUnits.findDurationWithin("data/lot=20230206PT15M095/part").orElseThrow());
+
+        assertThrows(IllegalArgumentException.class, () -> IntervalUnits.of(Duration.ofMinutes(7)));
+        assertThrows(IllegalArgumentException.class, () -> IntervalUnits.of(Duration.ofSeconds(90)));
+        assertThrows(IllegalArgumentException.class, () -> IntervalUnits.formatter(ChronoUnit.SECONDS));
+        assertThrows(IllegalArgumentException.class, () -> IntervalUnits.formatter(ChronoUnit.WEEKS));
+        assertThrows(IllegalArgumentException.class, () -> IntervalUnits.find("PT7M"));
+        assertThrows(IllegalArgumentException.class, () -> IntervalUnits.find("unknown"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Fourths", "Sixths", "Twelfths", "PT1M", "PT2M", "PT1H", "PT24H"})
+    public void getFrom(String name) {
+        TemporalUnit unit = IntervalUnits.find(name);
+        TemporalField field = IntervalUnits.field(unit);
+        long minutes = unit.getDuration().toMinutes();
+        List<String> zones = List.of("UTC", "America/Los_Angeles", "Asia/Kolkata", "Australia/Eucla", "Pacific/Chatham");
+        Random random = new Random(0);
+
+        long min = Instant.parse("0000-01-01T00:00:00Z").toEpochMilli();
+        long max = Instant.parse("9999-12-31T23:59:59.999Z").toEpochMilli();
+
+        for (int i = 0; i < 100_000; i++) {
+            long epochMilli = i < 3 ? new long[]{0, -1, -60_001}[i] : min + (long) (random.nextDouble() * (max - min));
+            Instant instant = Instant.ofEpochMilli(epochMilli);
+            ZoneId zone = ZoneId.of(zones.get(random.nextInt(zones.size())));
+
+            // the prior behavior, via the minute of day of a ZonedDateTime
+            long expected = instant.atZone(ZoneOffset.UTC).get(ChronoField.MINUTE_OF_DAY) / minutes;
+
+            assertEquals(expected, instant.getLong(field));
+
+            if (field instanceof IntervalField) {
+                assertEquals(expected, ((IntervalField) field).getFromEpochMilli(epochMilli));
+                assertEquals(expected, ((IntervalField) field).getFromEpochSecond(instant.getEpochSecond()));
+            } else {
+                assertEquals(expected, ((DayIntervalField) field).getFromEpochMilli(epochMilli));
+                assertEquals(expected, ((DayIntervalField) field).getFromEpochSecond(instant.getEpochSecond()));
+            }
+
+            OffsetDateTime offsetDateTime = instant.atZone(zone).toOffsetDateTime();
+
+            assertEquals(offsetDateTime.get(ChronoField.MINUTE_OF_DAY) / minutes, offsetDateTime.getLong(field));
+            assertEquals(offsetDateTime.get(ChronoField.MINUTE_OF_DAY) / minutes, offsetDateTime.atZoneSameInstant(zone).getLong(field));
+            assertEquals(offsetDateTime.get(ChronoField.MINUTE_OF_DAY) / minutes, offsetDateTime.toLocalDateTime().getLong(field));
+            assertEquals(offsetDateTime.get(ChronoField.MINUTE_OF_DAY) / minutes, field.getFrom(LocalTime.from(offsetDateTime)));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(IntervalUnit.class)
+    public void cacheLastLot(IntervalUnit unit) {
+        IntervalBuilder builder = new IntervalBuilder(unit);
+        IntervalBuilder cached = new IntervalBuilder(unit.name(), true);
+        Random random = new Random(0);
+
+        // Mon Feb 06 2023 00:00:00 GMT+0000, moving forward up to a minute at a time
+        long epochMilli = 1675641600000L;
+        int lots = 0;
+        String previous = null;
+
+        for (int i = 0; i < 10_000; i++) {
+            epochMilli += random.nextInt(60_000);
+
+            String expected = builder.truncateAndFormat(epochMilli);
+
+            if (!expected.equals(previous)) {
+                lots++;
+            }
+
+            previous = expected;
+
+            assertEquals(expected, i % 2 == 0 ? cached.truncateAndFormat(epochMilli) : cached.truncateAndFormat(Instant.ofEpochMilli(epochMilli)));
+        }
+
+        // a step backwards into the prior lot is a miss
+        assertEquals(builder.truncateAndFormat(epochMilli - unit.getDuration().toMillis()), cached.truncateAndFormat(epochMilli - unit.getDuration().toMillis()));
+
+        assertEquals(lots + 1, cached.cacheMisses());
+        assertEquals(10_000 - lots, cached.cacheHits());
+        assertEquals(0, builder.cacheHits());
+        assertEquals(0, builder.cacheMisses());
+    }
+
+    @Test
+    public void lotOrderingMixedUnits() {
+        // Mon Feb 06 2023 00:00:00 GMT+0000, the start of a lot of every unit
+        long start = 1675641600000L;
+        Lot fourths = Lot.of(IntervalUnit.FOURTHS, start);
+        Lot twelfths = Lot.of(IntervalUnit.TWELFTHS, start);
+        Lot next = Lot.of(IntervalUnit.TWELFTHS, start + 1);
+
+        assertNotEquals(fourths, twelfths);
+        assertTrue(twelfths.compareTo(fourths) < 0);
+        assertTrue(fourths.compareTo(twelfths) > 0);
+        assertEquals(0, fourths.compareTo(Lot.of(IntervalUnit.FOURTHS, start + 1)));
+        assertTrue(fourths.compareTo(Lot.of(IntervalUnit.TWELFTHS, start + 5 * 60 * 1000)) < 0);
+
+        TreeSet<Lot> lots = new TreeSet<>(List.of(fourths, twelfths, next));
+
+        assertEquals(List.of(twelfths, fourths), List.copyOf(lots));
+    }
 }
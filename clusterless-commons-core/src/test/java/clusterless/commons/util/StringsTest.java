@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2023 Chris K Wensel <chris@wensel.net>. All Rights Reserved.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package clusterless.commons.util;
+
+import com.google.common.base.CaseFormat;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Verifies the case conversions in {@link Strings} are identical to Guava {@link CaseFormat}.
+ */
+public class StringsTest {
+    private static final char[] ALPHABET = "abyzABYZ09-_ .\u00e9\u00c9\u00df".toCharArray();
+
+    private static List<String> corpus() {
+        List<String> corpus = new ArrayList<>(List.of(
+                "", "a", "A", "-", "_", "--", "__", "-a", "_a", "a-", "a_",
+                "lower", "Lower", "LOWER", "lowerCase", "LowerCase", "lowerCASE", "LoWeR", "ABC", "aBC",
+                "lower-case", "lower--case", "-lower-case-", "lower_case", "lower__case", "_lower_case_",
+                "Lower-Case", "LOWER_CASE", "lower1Case2", "ab-cd-1", "projectA", "us-east-1", "20230101",
+                "\u00c9t\u00e9Case", "case\u00c9t\u00e9", "stra\u00dfe", "with space", "with Space"
+        ));
+
+        Random random = new Random(0);
+
+        for (int i = 0; i < 10_000; i++) {
+            char[] chars = new char[random.nextInt(12)];
+
+            for (int j = 0; j < chars.length; j++) {
+                chars[j] = ALPHABET[random.nextInt(ALPHABET.length)];
+            }
+
+            corpus.add(new String(chars));
+        }
+
+        return corpus;
+    }
+
+    private static void verify(CaseFormat from, CaseFormat to, Function<String, String> function, BiFunction<StringBuilder, String, StringBuilder> append) {
+        for (String value : corpus()) {
+            String expected = from.to(to, value);
+
+            Assertions.assertEquals(expected, function.apply(value), () -> from + " to " + to + ": " + value);
+            Assertions.assertEquals(expected, append.apply(new StringBuilder(), value).toString(), () -> "append " + from + " to " + to + ": " + value);
+            Assertions.assertEquals("prefix" + expected, append.apply(new StringBuilder("prefix"), value).toString(), () -> "append " + from + " to " + to + ": " + value);
+        }
+    }
+
+    @Test
+    void upperCamel() {
+        verify(CaseFormat.LOWER_CAMEL, CaseFormat.UPPER_CAMEL, Strings::upperCamel, Strings::appendUpperCamel);
+    }
+
+    @Test
+    void lowerUnderscoreToCamelCase() {
+        verify(CaseFormat.LOWER_UNDERSCORE, CaseFormat.UPPER_CAMEL, Strings::lowerUnderscoreToCamelCase, Strings::appendLowerUnderscoreToCamelCase);
+    }
+
+    @Test
+    void camelToLowerHyphen() {
+        verify(CaseFormat.UPPER_CAMEL, CaseFormat.LOWER_HYPHEN, Strings::camelToLowerHyphen, Strings::appendCamelToLowerHyphen);
+    }
+
+    @Test
+    void camelToLowerCamel() {
+        verify(CaseFormat.UPPER_CAMEL, CaseFormat.LOWER_CAMEL, Strings::camelToLowerCamel, Strings::appendCamelToLowerCamel);
+    }
+
+    @Test
+    void camelToLowerUnderscore() {
+        verify(CaseFormat.UPPER_CAMEL, CaseFormat.LOWER_UNDERSCORE, Strings::camelToLowerUnderscore, Strings::appendCamelToLowerUnderscore);
+    }
+
+    @Test
+    void camelToUpperUnderscore() {
+        verify(CaseFormat.UPPER_CAMEL, CaseFormat.UPPER_UNDERSCORE, Strings::camelToUpperUnderscore, Strings::appendCamelToUpperUnderscore);
+    }
+
+    @Test
+    void lowerHyphenToUpperCamel() {
+        verify(CaseFormat.LOWER_HYPHEN, CaseFormat.UPPER_CAMEL, Strings::lowerHyphenToUpperCamel, Strings::appendLowerHyphenToUpperCamel);
+    }
+
+    @Test
+    void nulls() {
+        Assertions.assertNull(Strings.camelToLowerHyphen(null));
+        Assertions.assertNull(Strings.lowerHyphenToUpperCamel(null));
+        Assertions.assertEquals("", Strings.appendCamelToLowerHyphen(new StringBuilder(), null).toString());
+        Assertions.assertThrows(NullPointerException.class, () -> Strings.upperCamel(null));
+    }
+
+    @Test
+    void unchanged() {
+        String value = "lower-case";
+        Assertions.assertSame(value, Strings.camelToLowerHyphen(value));
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2023 Chris K Wensel <chris@wensel.net>. All Rights Reserved.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package clusterless.commons.listing;
+
+import clusterless.commons.naming.Partition;
+import clusterless.commons.temporal.IntervalBuilder;
+import clusterless.commons.temporal.IntervalUnit;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Measures listing three days of lots from a local directory, one prefix per lot and with planned prefixes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PrefixPlannerBench {
+    // Mon Feb 06 2023 00:00:00 GMT+0000
+    private static final long START = 1675641600000L;
+    private static final long END = START + 3 * 24 * 60 * 60 * 1000L;
+
+    @Param({"8"})
+    int parallelism;
+
+    Path root;
+    ExecutorService executor;
+    LocalPrefixLister lister;
+    PrefixPlanner planner;
+    List<String> lotPrefixes;
+
+    @Setup
+    public void setup() throws IOException {
+        root = Files.createTempDirectory("prefix-planner-bench");
+        executor = Executors.newFixedThreadPool(parallelism);
+        lister = new LocalPrefixLister(root);
+        planner = new PrefixPlanner(Partition.namedOf("dataset", "orders"), "lot", IntervalUnit.TWELFTHS);
+
+        IntervalBuilder builder = new IntervalBuilder(IntervalUnit.TWELFTHS);
+
+        // a day before and after the listed range
+        builder.lots(START - 24 * 60 * 60 * 1000L, END + 24 * 60 * 60 * 1000L).forEach(lot -> {
+            try {
+                Path directory = Files.createDirectories(root.resolve("dataset=orders/lot=" + lot.format()));
+                Files.createFile(directory.resolve("part-0.json"));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        lotPrefixes = builder.lots(START, END)
+                .map(lot -> "dataset=orders/lot=" + lot.format() + "/")
+                .collect(Collectors.toList());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        executor.shutdownNow();
+
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public List<String> perLot() {
+        return lister.listAll(lotPrefixes, executor);
+    }
+
+    @Benchmark
+    public List<String> planned() {
+        return lister.listAll(planner.plan(START, END, parallelism), executor);
+    }
+
+    @Benchmark
+    public List<String> plan() {
+        return planner.plan(START, END, parallelism);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2023 Chris K Wensel <chris@wensel.net>. All Rights Reserved.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package clusterless.commons.naming;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building and rendering Label chains of increasing depth.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LabelBench {
+    @Param({"1", "4", "8", "16"})
+    int depth;
+
+    String[] parts;
+    Label label;
+    StringBuilder builder;
+
+    @Setup
+    public void setup() {
+        parts = new String[depth];
+
+        for (int i = 0; i < depth; i++) {
+            parts[i] = i % 2 == 0 ? "segmentName" + i : "segment-name-" + i;
+        }
+
+        label = build();
+        builder = new StringBuilder(1024);
+    }
+
+    private Label build() {
+        Label result = Label.of(parts[0]);
+
+        for (int i = 1; i < parts.length; i++) {
+            result = result.with(parts[i]);
+        }
+
+        return result;
+    }
+
+    @Benchmark
+    public String lowerHyphen() {
+        return label.lowerHyphen();
+    }
+
+    @Benchmark
+    public void renderAll(Blackhole blackhole) {
+        blackhole.consume(label.camelCase());
+        blackhole.consume(label.lowerHyphen());
+        blackhole.consume(label.lowerHyphenPath());
+        blackhole.consume(label.lowerColonPath());
+        blackhole.consume(label.lowerUnderscore());
+    }
+
+    @Benchmark
+    public String buildAndLowerHyphen() {
+        return build().lowerHyphen();
+    }
+
+    @Benchmark
+    public StringBuilder buildAndAppendTo() {
+        builder.setLength(0);
+        return build().appendTo(builder, Label.Format.LowerHyphen);
+    }
+}
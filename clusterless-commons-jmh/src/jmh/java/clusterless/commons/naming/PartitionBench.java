@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2023 Chris K Wensel <chris@wensel.net>. All Rights Reserved.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package clusterless.commons.naming;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building and rendering Partition chains of increasing depth.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PartitionBench {
+    @Param({"1", "4", "8", "16"})
+    int depth;
+
+    Partition partition;
+    StringBuilder builder;
+
+    @Setup
+    public void setup() {
+        partition = build();
+        builder = new StringBuilder(1024);
+    }
+
+    private Partition build() {
+        Partition result = Partition.namedOf("key0", "value0");
+
+        for (int i = 1; i < depth; i++) {
+            result = result.withNamed("key" + i, "value" + i);
+        }
+
+        return result;
+    }
+
+    @Benchmark
+    public String path() {
+        return partition.path();
+    }
+
+    @Benchmark
+    public String prefix() {
+        return partition.prefix();
+    }
+
+    @Benchmark
+    public StringBuilder appendPathTo() {
+        builder.setLength(0);
+        return partition.appendPathTo(builder);
+    }
+
+    @Benchmark
+    public String buildAndPath() {
+        return build().path();
+    }
+
+    @Benchmark
+    public CharSequence parseAndGet() {
+        return Partition.parse(partition.path()).get("key0");
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2023 Chris K Wensel <chris@wensel.net>. All Rights Reserved.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package clusterless.commons.naming;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Measures filtering object keys by partition values, with a {@link PartitionPredicate} and with a regular expression.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PartitionPredicateBench {
+    PartitionPredicate predicate;
+    Pattern pattern;
+    String[] keys;
+    int index;
+
+    @Setup
+    public void setup() {
+        predicate = PartitionPredicate.compile("year=2023 and month in (11,12)");
+        pattern = Pattern.compile("(^|.*/)year=2023/(.*/)?month=(11|12)(/.*|$)");
+
+        Random random = new Random(0);
+        keys = new String[1024];
+
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = Partition.namedOf("dataset", "orders")
+                    .withNamed("year", 2022 + random.nextInt(2))
+                    .withNamed("month", String.format("%02d", 1 + random.nextInt(12)))
+                    .withNamed("day", String.format("%02d", 1 + random.nextInt(28)))
+                    .with("part-" + i + ".json")
+                    .partition();
+        }
+    }
+
+    private String next() {
+        return keys[index++ & (keys.length - 1)];
+    }
+
+    @Benchmark
+    public boolean predicate() {
+        return predicate.test(next());
+    }
+
+    @Benchmark
+    public boolean regex() {
+        return pattern.matcher(next()).matches();
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2023 Chris K Wensel <chris@wensel.net>. All Rights Reserved.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package clusterless.commons.naming;
+
+import clusterless.commons.temporal.IntervalBuilder;
+import clusterless.commons.temporal.IntervalUnit;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures rendering a time partition per record, with a {@link PartitionTemplate} and with a Partition chain.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PartitionTemplateBench {
+    IntervalBuilder builder;
+    PartitionTemplate template;
+    long[] epochMillis;
+    int index;
+
+    @Setup
+    public void setup() {
+        builder = new IntervalBuilder(IntervalUnit.FOURTHS);
+        template = PartitionTemplate.compile("dataset={name}/year={year}/month={month}/day={day}/lot={lot}", builder)
+                .bind("name", "orders");
+
+        // event times a few seconds apart, so consecutive times usually share a lot
+        epochMillis = new long[1024];
+
+        for (int i = 0; i < epochMillis.length; i++) {
+            epochMillis[i] = 1675641600000L + i * 5_000L;
+        }
+    }
+
+    private long next() {
+        return epochMillis[index++ & (epochMillis.length - 1)];
+    }
+
+    @Benchmark
+    public String template() {
+        return template.render(next());
+    }
+
+    @Benchmark
+    public String chain() {
+        long epochMilli = next();
+        ZonedDateTime dateTime = Instant.ofEpochMilli(epochMilli).atZone(ZoneOffset.UTC);
+
+        return Partition.namedOf("dataset", "orders")
+                .withNamed("year", dateTime.getYear())
+                .withNamed("month", String.format("%02d", dateTime.getMonthValue()))
+                .withNamed("day", String.format("%02d", dateTime.getDayOfMonth()))
+                .withNamed("lot", builder.truncateAndFormat(epochMilli))
+                .partition();
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2023 Chris K Wensel <chris@wensel.net>. All Rights Reserved.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package clusterless.commons.naming;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures creating and rendering {@link Ref} export names.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RefBench {
+    @Param({"true", "false"})
+    boolean staged;
+
+    Stage stage;
+    Ref ref;
+
+    @Setup
+    public void setup() {
+        stage = staged ? Stage.of("dev") : Stage.nullStage();
+        ref = build();
+    }
+
+    private Ref build() {
+        return Ref.idRef()
+                .withProvider("aws")
+                .withStage(stage)
+                .withScope("projectA")
+                .withScopeVersion("20230101")
+                .withResourceNs("core")
+                .withResourceType("compute")
+                .withResourceName("spotInstance");
+    }
+
+    @Benchmark
+    public String exportName() {
+        return ref.exportName();
+    }
+
+    @Benchmark
+    public String buildAndExportName() {
+        return build().exportName();
+    }
+
+    @Benchmark
+    public int buildAndHashCode() {
+        return build().hashCode();
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2023 Chris K Wensel <chris@wensel.net>. All Rights Reserved.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package clusterless.commons.temporal;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.TemporalField;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures truncating and formatting lots with an {@link IntervalBuilder}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IntervalBuilderBench {
+    @Param({"Fourths", "Sixths", "Twelfths"})
+    String unit;
+
+    IntervalBuilder builder;
+    IntervalBuilder cachedBuilder;
+    TemporalField field;
+    Instant[] instants;
+    long[] epochMillis;
+    long[] clusteredMillis;
+    String[] lots;
+    StringBuilder builderBuffer;
+    char[] charBuffer;
+    int index;
+
+    @Setup
+    public void setup() {
+        builder = new IntervalBuilder(unit);
+        cachedBuilder = new IntervalBuilder(unit, true);
+        field = IntervalUnits.field(builder.lotUnit);
+
+        // one day of random event times, from Mon Feb 06 2023 00:00:00 GMT+0000
+        Random random = new Random(0);
+        instants = new Instant[1024];
+        epochMillis = new long[instants.length];
+        lots = new String[instants.length];
+
+        for (int i = 0; i < instants.length; i++) {
+            instants[i] = Instant.ofEpochMilli(1675641600000L + random.nextInt(24 * 60 * 60 * 1000));
+            epochMillis[i] = instants[i].toEpochMilli();
+            lots[i] = builder.truncateAndFormat(instants[i]);
+        }
+
+        // event times a few seconds apart, so consecutive times usually share a lot
+        clusteredMillis = new long[instants.length];
+
+        for (int i = 0; i < clusteredMillis.length; i++) {
+            clusteredMillis[i] = 1675641600000L + i * 5_000L;
+        }
+
+        builderBuffer = new StringBuilder(builder.formattedLength());
+        charBuffer = new char[builder.formattedLength()];
+    }
+
+    private Instant next() {
+        return instants[index++ & (instants.length - 1)];
+    }
+
+    private String nextLot() {
+        return lots[index++ & (lots.length - 1)];
+    }
+
+    private long nextMilli() {
+        return epochMillis[index++ & (epochMillis.length - 1)];
+    }
+
+    @Benchmark
+    public String truncateAndFormat() {
+        return builder.truncateAndFormat(next());
+    }
+
+    @Benchmark
+    public Instant truncate() {
+        return builder.truncate(next());
+    }
+
+    @Benchmark
+    public String truncateAndFormatMilli() {
+        return builder.truncateAndFormat(nextMilli());
+    }
+
+    @Benchmark
+    public StringBuilder truncateAndFormatMilliInto() {
+        builderBuffer.setLength(0);
+        return builder.truncateAndFormat(nextMilli(), builderBuffer);
+    }
+
+    @Benchmark
+    public char[] truncateAndFormatMilliChars() {
+        builder.truncateAndFormat(nextMilli(), charBuffer, 0);
+        return charBuffer;
+    }
+
+    @Benchmark
+    public long truncateMilli() {
+        return builder.truncate(nextMilli());
+    }
+
+    @Benchmark
+    public long parseFormatter() {
+        return builder.lotFormatter.parse(nextLot()).query(LocalDateTime::from).toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    @Benchmark
+    public long parseCodec() {
+        return builder.lotCodec().parseEpochMilli(nextLot());
+    }
+
+    @Benchmark
+    public long getField() {
+        return next().getLong(field);
+    }
+
+    @Benchmark
+    public String truncateAndFormatClustered() {
+        return builder.truncateAndFormat(clusteredMillis[index++ & (clusteredMillis.length - 1)]);
+    }
+
+    @Benchmark
+    public String truncateAndFormatClusteredCached() {
+        return cachedBuilder.truncateAndFormat(clusteredMillis[index++ & (clusteredMillis.length - 1)]);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2023 Chris K Wensel <chris@wensel.net>. All Rights Reserved.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package clusterless.commons.temporal;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures grouping an array of event times by lot, with {@link LotBuckets} and with a map of lot strings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LotBucketsBench {
+    @Param({"1000000"})
+    int size;
+
+    IntervalBuilder builder;
+    long[] epochMillis;
+
+    @Setup
+    public void setup() {
+        builder = new IntervalBuilder(IntervalUnit.TWELFTHS);
+
+        // one day of random event times, from Mon Feb 06 2023 00:00:00 GMT+0000
+        Random random = new Random(0);
+        epochMillis = new long[size];
+
+        for (int i = 0; i < epochMillis.length; i++) {
+            epochMillis[i] = 1675641600000L + random.nextInt(24 * 60 * 60 * 1000);
+        }
+    }
+
+    @Benchmark
+    public LotBuckets lotBuckets() {
+        return builder.lotBuckets(epochMillis);
+    }
+
+    @Benchmark
+    public LotBuckets lotBucketsParallel() {
+        return builder.lotBuckets(epochMillis, ForkJoinPool.commonPool());
+    }
+
+    @Benchmark
+    public Map<String, List<Integer>> lotStringMap() {
+        Map<String, List<Integer>> groups = new TreeMap<>();
+
+        for (int i = 0; i < epochMillis.length; i++) {
+            groups.computeIfAbsent(builder.truncateAndFormat(epochMillis[i]), k -> new ArrayList<>()).add(i);
+        }
+
+        return groups;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2023 Chris K Wensel <chris@wensel.net>. All Rights Reserved.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package clusterless.commons.temporal;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures counting per lot from many threads, with {@link LotCounters} and with a map keyed by lot strings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class LotCountersBench {
+    IntervalBuilder builder;
+    LotCounters counters;
+    ConcurrentHashMap<String, LongAdder> map;
+    long[] epochMillis;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int index;
+    }
+
+    @Setup
+    public void setup() {
+        builder = new IntervalBuilder(IntervalUnit.TWELFTHS);
+        counters = new LotCounters(IntervalUnit.TWELFTHS, 288, 1);
+        map = new ConcurrentHashMap<>();
+
+        // one hour of random event times, from Mon Feb 06 2023 00:00:00 GMT+0000
+        Random random = new Random(0);
+        epochMillis = new long[1024];
+
+        for (int i = 0; i < epochMillis.length; i++) {
+            epochMillis[i] = 1675641600000L + random.nextInt(60 * 60 * 1000);
+        }
+    }
+
+    @Benchmark
+    public boolean lotCounters(Cursor cursor) {
+        return counters.increment(epochMillis[cursor.index++ & (epochMillis.length - 1)], 0);
+    }
+
+    @Benchmark
+    public void lotStringMap(Cursor cursor) {
+        String lot = builder.truncateAndFormat(epochMillis[cursor.index++ & (epochMillis.length - 1)]);
+
+        map.computeIfAbsent(lot, k -> new LongAdder()).increment();
+    }
+}
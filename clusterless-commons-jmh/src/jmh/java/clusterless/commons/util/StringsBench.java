@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2023 Chris K Wensel <chris@wensel.net>. All Rights Reserved.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package clusterless.commons.util;
+
+import com.google.common.base.CaseFormat;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link Strings} case conversions, with Guava {@link CaseFormat} as a baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StringsBench {
+    @Param({"8", "32", "128"})
+    int length;
+
+    String camel;
+    String hyphen;
+    StringBuilder builder;
+
+    @Setup
+    public void setup() {
+        StringBuilder value = new StringBuilder();
+
+        while (value.length() < length) {
+            value.append("Word").append(value.length() % 10);
+        }
+
+        camel = value.substring(0, length);
+        hyphen = CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_HYPHEN, camel);
+        builder = new StringBuilder(length * 2);
+    }
+
+    @Benchmark
+    public String camelToLowerHyphen() {
+        return Strings.camelToLowerHyphen(camel);
+    }
+
+    @Benchmark
+    public String camelToLowerHyphenGuava() {
+        return CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_HYPHEN, camel);
+    }
+
+    @Benchmark
+    public StringBuilder appendCamelToLowerHyphen() {
+        builder.setLength(0);
+        return Strings.appendCamelToLowerHyphen(builder, camel);
+    }
+
+    @Benchmark
+    public String camelToUpperUnderscore() {
+        return Strings.camelToUpperUnderscore(camel);
+    }
+
+    @Benchmark
+    public String camelToUpperUnderscoreGuava() {
+        return CaseFormat.UPPER_CAMEL.to(CaseFormat.UPPER_UNDERSCORE, camel);
+    }
+
+    @Benchmark
+    public String lowerHyphenToUpperCamel() {
+        return Strings.lowerHyphenToUpperCamel(hyphen);
+    }
+
+    @Benchmark
+    public String lowerHyphenToUpperCamelGuava() {
+        return CaseFormat.LOWER_HYPHEN.to(CaseFormat.UPPER_CAMEL, hyphen);
+    }
+}
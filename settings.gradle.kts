@@ -18,5 +18,6 @@ rootProject.name = "clusterless-commons"
 
 include(
     "clusterless-commons-core",
-    "clusterless-commons-aws"
+    "clusterless-commons-aws",
+    "clusterless-commons-jmh"
 )